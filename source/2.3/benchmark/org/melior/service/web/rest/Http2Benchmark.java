@@ -0,0 +1,170 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+/**
+ * Compares the loopback throughput of the embedded Undertow server over HTTP/1.1 with
+ * keep-alive connections with the throughput over cleartext HTTP/2 (h2c), with the server
+ * tuned by the {@code UndertowCustomizer} with HTTP/2 enabled.
+ * <p>
+ * Over HTTP/1.1 every client holds a keep-alive connection of its own.  Over HTTP/2 the
+ * clients share a single connection, which is upgraded from HTTP/1.1 by the first request,
+ * and on which the requests of all clients are multiplexed.  The protocol of the responses
+ * is checked before each run.
+ * <p>
+ * Arguments: concurrency (default 64), response size in bytes (default 1024), duration of
+ * a run in seconds (default 10), and optionally the maximum number of concurrent streams,
+ * the initial window size and the header table size of HTTP/2.  The benchmark requires
+ * Java 11 or later for the HTTP client of the JDK.
+ * @author Melior
+ * @since 2.3
+ */
+public final class Http2Benchmark {
+
+    /**
+     * Constructor.
+     */
+    private Http2Benchmark() {
+
+        super();
+    }
+
+    /**
+     * Run benchmark.
+     * @param args The concurrency, the response size, the duration and the HTTP/2 settings
+     * @throws Exception if the benchmark fails
+     */
+    public static void main(
+        final String[] args) throws Exception {
+
+        int concurrency;
+        int responseSize;
+        long duration;
+        UndertowServletWebServerFactory factory;
+        UndertowConfig configuration;
+        byte[] body;
+        WebServer server;
+        URI uri;
+
+        concurrency = (args.length > 0) ? Integer.parseInt(args[0]) : 64;
+        responseSize = (args.length > 1) ? Integer.parseInt(args[1]) : 1024;
+        duration = TimeUnit.SECONDS.toMillis((args.length > 2) ? Long.parseLong(args[2]) : 10);
+
+        configuration = new UndertowConfig();
+        configuration.setHttp2(true);
+
+        if (args.length > 5) {
+            configuration.setHttp2MaxConcurrentStreams(Integer.parseInt(args[3]));
+            configuration.setHttp2InitialWindowSize(Integer.parseInt(args[4]));
+            configuration.setHttp2HeaderTableSize(Integer.parseInt(args[5]));
+        }
+
+        factory = new UndertowServletWebServerFactory(0);
+        new UndertowCustomizer(configuration).customize(factory);
+
+        body = new byte[responseSize];
+        Arrays.fill(body, (byte) 'x');
+
+        server = factory.getWebServer((servletContext) -> servletContext.addServlet("service", new ServiceServlet(body)).addMapping("/*"));
+        server.start();
+
+        uri = URI.create("http://localhost:" + server.getPort() + "/");
+
+        try {
+
+            System.out.println("concurrency " + concurrency + ", response size " + responseSize + " bytes, max concurrent streams "
+                + configuration.getHttp2MaxConcurrentStreams() + ", initial window size " + configuration.getHttp2InitialWindowSize()
+                + ", header table size " + configuration.getHttp2HeaderTableSize());
+            System.out.println("HTTP/1.1 " + run(HttpClient.Version.HTTP_1_1, uri, concurrency, duration));
+            System.out.println("h2c      " + run(HttpClient.Version.HTTP_2, uri, concurrency, duration));
+        }
+        finally {
+            server.stop();
+        }
+
+    }
+
+    /**
+     * Run benchmark with one protocol.
+     * @param version The protocol version
+     * @param uri The URI of the service under test
+     * @param concurrency The number of concurrent clients
+     * @param duration The duration of a run in milliseconds
+     * @return The result of the run
+     * @throws Exception if the run fails, or if the server does not respond with the protocol version
+     */
+    private static LoadGenerator.Result run(
+        final HttpClient.Version version,
+        final URI uri,
+        final int concurrency,
+        final long duration) throws Exception {
+
+        HttpClient client;
+        HttpRequest request;
+        HttpResponse<byte[]> response;
+
+        client = HttpClient.newBuilder().version(version).build();
+        request = HttpRequest.newBuilder(uri).GET().build();
+
+        response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.version() != version) {
+            throw new IllegalStateException("Server responded with " + response.version() + " instead of " + version + ".");
+        }
+
+        return new LoadGenerator(concurrency, duration).run((clientNumber, sequence) -> {
+
+            if (client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode() != 200) {
+                throw new IOException("Request failed.");
+            }
+
+        });
+    }
+
+    /**
+     * The service under test, which responds with a fixed body.
+     */
+    private static final class ServiceServlet extends HttpServlet {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] body;
+
+        private ServiceServlet(
+            final byte[] body) {
+
+            super();
+
+            this.body = body;
+        }
+
+        protected void doGet(
+            final HttpServletRequest request,
+            final HttpServletResponse response) throws IOException {
+
+            response.setContentType("text/plain");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+
+    }
+
+}
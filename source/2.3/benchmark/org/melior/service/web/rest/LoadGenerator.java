@@ -0,0 +1,224 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a fixed number of concurrent clients, each of which sends requests back to back
+ * until the run ends, and reports the throughput and the latency of the requests.  Each
+ * run is preceded by a warm-up of the same length, of which the results are discarded.
+ * @author Melior
+ * @since 2.3
+ */
+final class LoadGenerator {
+
+    private int concurrency;
+
+    private long durationMillis;
+
+    /**
+     * Constructor.
+     * @param concurrency The number of concurrent clients
+     * @param durationMillis The duration of a run in milliseconds
+     */
+    LoadGenerator(
+        final int concurrency,
+        final long durationMillis) {
+
+        super();
+
+        this.concurrency = concurrency;
+
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Run request against the server, first to warm up and then to measure.
+     * @param request The request
+     * @return The result of the measured run
+     * @throws Exception if the run is interrupted
+     */
+    Result run(
+        final Request request) throws Exception {
+
+        execute(request);
+
+        return execute(request);
+    }
+
+    /**
+     * Run request against the server once.
+     * @param request The request
+     * @return The result of the run
+     * @throws Exception if the run is interrupted
+     */
+    private Result execute(
+        final Request request) throws Exception {
+
+        ExecutorService executor;
+        List<Future<long[]>> futures;
+        long deadline;
+        long[][] latencies;
+        long[] merged;
+        int count;
+        long errors;
+
+        executor = Executors.newFixedThreadPool(concurrency);
+        futures = new ArrayList<Future<long[]>>();
+        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        for (int i = 0; i < concurrency; i++) {
+            final int client = i;
+
+            futures.add(executor.submit(() -> send(request, client, deadline)));
+        }
+
+        latencies = new long[concurrency][];
+        count = 0;
+
+        for (int i = 0; i < concurrency; i++) {
+            latencies[i] = futures.get(i).get();
+            count += latencies[i].length - 1;
+        }
+
+        executor.shutdown();
+
+        merged = new long[count];
+        count = 0;
+        errors = 0;
+
+        for (long[] values : latencies) {
+            System.arraycopy(values, 1, merged, count, values.length - 1);
+            count += values.length - 1;
+            errors += values[0];
+        }
+
+        Arrays.sort(merged);
+
+        return new Result(merged, errors, durationMillis);
+    }
+
+    /**
+     * Send requests until the deadline.
+     * @param request The request
+     * @param client The number of the client
+     * @param deadline The deadline, in the time base of {@code System.nanoTime()}
+     * @return The number of failed requests, followed by the latencies of the successful requests in nanoseconds
+     */
+    private static long[] send(
+        final Request request,
+        final int client,
+        final long deadline) {
+
+        long[] values;
+        int count;
+        long sequence;
+        long start;
+        long end;
+
+        values = new long[1024];
+        count = 1;
+        sequence = 0;
+
+        for (start = System.nanoTime(); start < deadline; start = end) {
+
+            try {
+
+                request.send(client, sequence++);
+
+                end = System.nanoTime();
+
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                }
+
+                values[count++] = end - start;
+            }
+            catch (Exception exception) {
+                values[0]++;
+
+                end = System.nanoTime();
+            }
+
+        }
+
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * A request which a client sends to the server.
+     */
+    @FunctionalInterface
+    interface Request {
+
+        /**
+         * Send request and wait for the response.
+         * @param client The number of the client
+         * @param sequence The sequence number of the request of the client
+         * @throws Exception if the request fails
+         */
+        void send(
+            int client,
+            long sequence) throws Exception;
+
+    }
+
+    /**
+     * The throughput and latency of a run.
+     */
+    static final class Result {
+
+        private final long[] latencies;
+
+        private final long errors;
+
+        private final long durationMillis;
+
+        private Result(
+            final long[] latencies,
+            final long errors,
+            final long durationMillis) {
+
+            this.latencies = latencies;
+
+            this.errors = errors;
+
+            this.durationMillis = durationMillis;
+        }
+
+        /**
+         * Get result as text.
+         * @return The throughput, the latency percentiles and the number of failed requests
+         */
+        public String toString() {
+
+            return String.format("%10.0f req/s   p50 %8.2f ms   p99 %8.2f ms   errors %d",
+                latencies.length * 1000.0 / durationMillis, percentile(0.50), percentile(0.99), errors);
+        }
+
+        /**
+         * Get latency percentile.
+         * @param fraction The percentile as a fraction
+         * @return The latency in milliseconds
+         */
+        private double percentile(
+            final double fraction) {
+
+            return (latencies.length == 0) ? 0 : latencies[(int) Math.min(latencies.length - 1, latencies.length * fraction)] / 1_000_000.0;
+        }
+
+    }
+
+}
@@ -0,0 +1,273 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.melior.context.service.ServiceContext;
+import org.melior.context.transaction.TransactionContext;
+import org.melior.service.work.WorkManager;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import io.undertow.Undertow;
+import io.undertow.util.SameThreadExecutor;
+
+/**
+ * Compares the throughput of the embedded Undertow server when requests are dispatched onto
+ * the worker pool with the throughput when requests are dispatched onto virtual threads by
+ * the {@code VirtualThreadCustomizer}, while every request blocks on a downstream call.
+ * <p>
+ * The downstream service answers every request after a fixed latency without holding a
+ * thread.  The service under test makes a blocking HTTP call to the downstream service for
+ * every request, as a {@code Controller} which calls a {@code RestClient} does.  The clients
+ * outnumber the worker threads, so that the worker pool is the bottleneck.
+ * <p>
+ * Every request populates the {@code TransactionContext} of its thread with its own
+ * transaction identifier, notifies the {@code WorkManager}, if any, and checks after the
+ * downstream call that the transaction context still holds that identifier.  Requests of
+ * which the transaction context was changed by another request are counted as mismatches.
+ * <p>
+ * Arguments: concurrency (default 256), downstream latency in milliseconds (default 50),
+ * worker threads (default 32), duration of a run in seconds (default 10).  The virtual
+ * thread run requires Java 21 or later, and is skipped on older JVMs.
+ * @author Melior
+ * @since 2.3
+ */
+public final class VirtualThreadBenchmark {
+
+    /**
+     * Constructor.
+     */
+    private VirtualThreadBenchmark() {
+
+        super();
+    }
+
+    /**
+     * Run benchmark.
+     * @param args The concurrency, the downstream latency, the worker threads and the duration
+     * @throws Exception if the benchmark fails
+     */
+    public static void main(
+        final String[] args) throws Exception {
+
+        int concurrency;
+        long latency;
+        int workerThreads;
+        long duration;
+        Undertow downstream;
+        int downstreamPort;
+
+        concurrency = (args.length > 0) ? Integer.parseInt(args[0]) : 256;
+        latency = (args.length > 1) ? Long.parseLong(args[1]) : 50;
+        workerThreads = (args.length > 2) ? Integer.parseInt(args[2]) : 32;
+        duration = TimeUnit.SECONDS.toMillis((args.length > 3) ? Long.parseLong(args[3]) : 10);
+
+        downstream = Undertow.builder()
+            .addHttpListener(0, "localhost")
+            .setHandler((exchange) -> exchange.dispatch(SameThreadExecutor.INSTANCE, () -> exchange.getIoThread()
+                .executeAfter(() -> exchange.getResponseSender().send("ok"), latency, TimeUnit.MILLISECONDS)))
+            .build();
+        downstream.start();
+        downstreamPort = ((InetSocketAddress) downstream.getListenerInfo().get(0).getAddress()).getPort();
+
+        System.out.println("concurrency " + concurrency + ", downstream latency " + latency + " ms, worker threads " + workerThreads);
+        System.out.println("worker pool     " + run(false, concurrency, workerThreads, duration, downstreamPort));
+
+        if (isVirtualThreadSupported() == true) {
+            System.out.println("virtual threads " + run(true, concurrency, workerThreads, duration, downstreamPort));
+        }
+        else {
+            System.out.println("virtual threads skipped, Java 21 or later is required");
+        }
+
+        downstream.stop();
+    }
+
+    /**
+     * Run benchmark against the service under test in one dispatch mode.
+     * @param virtualThreads true to dispatch requests onto virtual threads, false to dispatch them onto the worker pool
+     * @param concurrency The number of concurrent clients
+     * @param workerThreads The number of worker threads
+     * @param duration The duration of a run in milliseconds
+     * @param downstreamPort The port of the downstream service
+     * @return The result of the run, with the number of mismatched transaction contexts
+     * @throws Exception if the run fails
+     */
+    private static String run(
+        final boolean virtualThreads,
+        final int concurrency,
+        final int workerThreads,
+        final long duration,
+        final int downstreamPort) throws Exception {
+
+        UndertowServletWebServerFactory factory;
+        UndertowConfig configuration;
+        VirtualThreadCustomizer virtualThreadCustomizer;
+        CloseableHttpClient downstreamClient;
+        CloseableHttpClient client;
+        AtomicLong mismatches;
+        WebServer server;
+        String url;
+        LoadGenerator.Result result;
+
+        factory = new UndertowServletWebServerFactory(0);
+        configuration = new UndertowConfig();
+        configuration.setWorkerThreads(workerThreads);
+        new UndertowCustomizer(configuration).customize(factory);
+
+        virtualThreadCustomizer = null;
+
+        if (virtualThreads == true) {
+            virtualThreadCustomizer = new VirtualThreadCustomizer();
+            virtualThreadCustomizer.customize(factory);
+        }
+
+        downstreamClient = HttpClients.custom().setMaxConnTotal(concurrency).setMaxConnPerRoute(concurrency).build();
+        client = HttpClients.custom().setMaxConnTotal(concurrency).setMaxConnPerRoute(concurrency).build();
+        mismatches = new AtomicLong();
+
+        server = factory.getWebServer((servletContext) -> servletContext
+            .addServlet("service", new ServiceServlet(downstreamClient, "http://localhost:" + downstreamPort + "/", mismatches))
+            .addMapping("/*"));
+        server.start();
+
+        url = "http://localhost:" + server.getPort() + "/";
+
+        try {
+
+            result = new LoadGenerator(concurrency, duration).run((clientNumber, sequence) -> {
+
+                HttpGet request;
+
+                request = new HttpGet(url);
+                request.setHeader("X-Request-Id", clientNumber + "-" + sequence);
+
+                client.execute(request, (response) -> EntityUtils.toString(response.getEntity()));
+            });
+
+        }
+        finally {
+            server.stop();
+            client.close();
+            downstreamClient.close();
+
+            if (virtualThreadCustomizer != null) {
+                virtualThreadCustomizer.destroy();
+            }
+
+        }
+
+        return result + "   context mismatches " + mismatches.get();
+    }
+
+    /**
+     * Check whether the JVM supports virtual threads.
+     * @return true if virtual threads are supported, false otherwise
+     */
+    private static boolean isVirtualThreadSupported() {
+
+        try {
+
+            Thread.class.getMethod("ofVirtual");
+
+            return true;
+        }
+        catch (NoSuchMethodException exception) {
+            return false;
+        }
+
+    }
+
+    /**
+     * The service under test, which makes a blocking call to the downstream service within
+     * the transaction of every request.
+     */
+    private static final class ServiceServlet extends HttpServlet {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CloseableHttpClient downstreamClient;
+
+        private final String downstreamUrl;
+
+        private final AtomicLong mismatches;
+
+        private ServiceServlet(
+            final CloseableHttpClient downstreamClient,
+            final String downstreamUrl,
+            final AtomicLong mismatches) {
+
+            super();
+
+            this.downstreamClient = downstreamClient;
+
+            this.downstreamUrl = downstreamUrl;
+
+            this.mismatches = mismatches;
+        }
+
+        protected void doGet(
+            final HttpServletRequest request,
+            final HttpServletResponse response) throws IOException {
+
+            TransactionContext transactionContext;
+            WorkManager workManager;
+            String transactionId;
+            String body;
+
+            transactionId = request.getHeader("X-Request-Id");
+
+            transactionContext = TransactionContext.get();
+            transactionContext.startTransaction();
+            transactionContext.setTransactionId(transactionId);
+
+            workManager = ServiceContext.getWorkManager();
+
+            try {
+
+                if (workManager != null) {
+                    workManager.startRequest(transactionContext);
+                }
+
+                body = downstreamClient.execute(new HttpGet(downstreamUrl), (downstreamResponse) -> EntityUtils.toString(downstreamResponse.getEntity()));
+
+                if ((TransactionContext.get() != transactionContext) || (transactionId.equals(transactionContext.getTransactionId()) == false)) {
+                    mismatches.incrementAndGet();
+                }
+
+                if (workManager != null) {
+                    workManager.completeRequest(transactionContext, false);
+                }
+
+                response.getWriter().write(body);
+            }
+            catch (IOException exception) {
+                throw exception;
+            }
+            catch (Exception exception) {
+                throw new IOException(exception.getMessage(), exception);
+            }
+            finally {
+                transactionContext.reset();
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+#!/bin/sh
+# Compiles and runs a benchmark of the REST service harness.
+#
+# Usage: CLASSPATH=<harness jar and its runtime dependencies> ./run.sh <benchmark> [arguments]
+#
+# The class path must include the runtime dependencies of spring-boot-starter-undertow,
+# among them xnio-nio, and the Apache HttpClient.  The benchmarks are:
+#   VirtualThreadBenchmark [concurrency] [downstream latency ms] [worker threads] [seconds]
+#   Http2Benchmark [concurrency] [response bytes] [seconds] [max streams] [window size] [header table size]
+
+set -e
+
+if [ -z "$CLASSPATH" ] || [ -z "$1" ]; then
+    sed -n '4,9s/^# \{0,1\}//p' "$0"
+    exit 1
+fi
+
+BENCHMARK=$1
+shift
+
+OUTPUT=$(mktemp -d)
+trap 'rm -rf "$OUTPUT"' EXIT
+
+javac -nowarn -d "$OUTPUT" "$(dirname "$0")"/org/melior/service/web/rest/*.java
+java -cp "$OUTPUT:$CLASSPATH" "org.melior.service.web.rest.$BENCHMARK" "$@"
@@ -0,0 +1,197 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * A URI template which is parsed once into its literal parts and its variables, so that
+ * it may be expanded repeatedly with a single pass over the parts.  The literal parts are
+ * encoded when the template is compiled, and the values of the variables are encoded when
+ * the template is expanded, according to the component of the URI in which they appear.
+ * The result is the same as that of the {@code UriTemplateHandler} of a {@code RestTemplate},
+ * which encodes the components of a URI template after expanding it.
+ * <p>
+ * The scheme and authority of the template are taken as they are.  The values of the
+ * variables are assigned to the variables in the order in which the variables appear, and
+ * the value of a variable in the path is encoded as a single path segment.
+ * @author Melior
+ * @since 2.3
+ */
+final class CompiledUriTemplate {
+
+    private static final int PATH = 0;
+
+    private static final int QUERY = 1;
+
+    private static final int FRAGMENT = 2;
+
+    private String template;
+
+    private String[] literals;
+
+    private int[] components;
+
+    private int length;
+
+    /**
+     * Constructor.
+     * @param template The URI template
+     * @param literals The encoded literal parts, one more than the number of variables
+     * @param components The components in which the variables appear
+     */
+    private CompiledUriTemplate(
+        final String template,
+        final String[] literals,
+        final int[] components) {
+
+        super();
+
+        this.template = template;
+
+        this.literals = literals;
+
+        this.components = components;
+
+        for (String literal : literals) {
+            this.length += literal.length();
+        }
+
+    }
+
+    /**
+     * Compile URI template.
+     * @param template The URI template, for example {@code http://host/customer/{id}?fields={fields}}
+     * @return The compiled URI template
+     * @throws IllegalArgumentException if a variable of the URI template is not closed
+     */
+    static CompiledUriTemplate compile(
+        final String template) {
+
+        List<String> literals;
+        List<Integer> components;
+        StringBuilder literal;
+        StringBuilder raw;
+        int component = PATH;
+        int index;
+        int depth;
+        char character;
+
+        literals = new ArrayList<String>();
+        components = new ArrayList<Integer>();
+        literal = new StringBuilder();
+        raw = new StringBuilder();
+
+        index = template.indexOf("://");
+        index = (index < 0) ? 0 : index + 3;
+
+        while ((index < template.length()) && ("/?#".indexOf(template.charAt(index)) < 0)) {
+            index++;
+        }
+
+        literal.append(template, 0, index);
+
+        for (; index < template.length(); index++) {
+            character = template.charAt(index);
+
+            if (character == '{') {
+                literals.add(literal.append(encode(raw, component, false)).toString());
+                components.add(component);
+                literal.setLength(0);
+                raw.setLength(0);
+
+                for (depth = 1; depth > 0; ) {
+
+                    if (++index == template.length()) {
+                        throw new IllegalArgumentException("Variable is not closed in URI template '" + template + "'.");
+                    }
+
+                    character = template.charAt(index);
+                    depth += (character == '{') ? 1 : (character == '}') ? -1 : 0;
+                }
+
+            }
+            else if (((character == '?') && (component == PATH)) || ((character == '#') && (component != FRAGMENT))) {
+                literal.append(encode(raw, component, false)).append(character);
+                raw.setLength(0);
+                component = (character == '?') ? QUERY : FRAGMENT;
+            }
+            else {
+                raw.append(character);
+            }
+
+        }
+
+        literals.add(literal.append(encode(raw, component, false)).toString());
+
+        return new CompiledUriTemplate(template, literals.toArray(new String[literals.size()]),
+            components.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Expand URI template.
+     * @param values The values of the variables
+     * @return The URI
+     * @throws IllegalArgumentException if there are fewer values than variables, or if the expanded URI is not valid
+     */
+    URI expand(
+        final Object[] values) {
+
+        StringBuilder uri;
+        Object value;
+
+        if (values.length < components.length) {
+            throw new IllegalArgumentException("Not enough variable values available to expand URI template '" + template + "'.");
+        }
+
+        if (components.length == 0) {
+            return URI.create(literals[0]);
+        }
+
+        uri = new StringBuilder(length + (components.length * 16));
+        uri.append(literals[0]);
+
+        for (int i = 0; i < components.length; i++) {
+            value = values[i];
+
+            uri.append(encode((value == null) ? "" : value.toString(), components[i], true)).append(literals[i + 1]);
+        }
+
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Encode part of URI according to the component in which it appears.
+     * @param part The part
+     * @param component The component
+     * @param variable true if the part is the value of a variable, false if it is a literal part
+     * @return The encoded part
+     */
+    private static String encode(
+        final CharSequence part,
+        final int component,
+        final boolean variable) {
+
+        switch (component) {
+        case PATH:
+            return (variable == true) ? UriUtils.encodePathSegment(part.toString(), StandardCharsets.UTF_8)
+                : UriUtils.encodePath(part.toString(), StandardCharsets.UTF_8);
+        case QUERY:
+            return (variable == true) ? UriUtils.encodeQueryParam(part.toString(), StandardCharsets.UTF_8)
+                : UriUtils.encodeQuery(part.toString(), StandardCharsets.UTF_8);
+        default:
+            return UriUtils.encodeFragment(part.toString(), StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
@@ -0,0 +1,660 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Compresses and decompresses HTTP message bodies with the "gzip" and "deflate" content
+ * codings, using pooled {@code Deflater} and {@code Inflater} instances.
+ * <p>
+ * Creating a {@code Deflater} or an {@code Inflater} allocates native memory, which is only
+ * released when the instance is ended or finalized.  The codec therefore keeps a bounded
+ * number of idle instances, which are reset and reused by subsequent messages.
+ * @author Melior
+ * @since 2.3
+ */
+public final class CompressionCodec {
+
+    public static final String GZIP = "gzip";
+
+    public static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private int level;
+
+    private Pool<Deflater> gzipDeflaters;
+
+    private Pool<Deflater> zlibDeflaters;
+
+    private Pool<Inflater> gzipInflaters;
+
+    private Pool<Inflater> zlibInflaters;
+
+    /**
+     * Constructor.
+     * @param level The compression level, from 0 to 9
+     * @param poolSize The maximum number of idle instances to keep per content coding
+     */
+    public CompressionCodec(
+        final int level,
+        final int poolSize) {
+
+        super();
+
+        this.level = level;
+
+        this.gzipDeflaters = new Pool<Deflater>(poolSize, () -> new Deflater(level, true), Deflater::reset, Deflater::end);
+
+        this.zlibDeflaters = new Pool<Deflater>(poolSize, () -> new Deflater(level, false), Deflater::reset, Deflater::end);
+
+        this.gzipInflaters = new Pool<Inflater>(poolSize, () -> new Inflater(true), Inflater::reset, Inflater::end);
+
+        this.zlibInflaters = new Pool<Inflater>(poolSize, () -> new Inflater(false), Inflater::reset, Inflater::end);
+    }
+
+    /**
+     * Get compression level.
+     * @return The compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Get content coding to use for response, given the "Accept-Encoding" header of a request.
+     * The "gzip" content coding is preferred over the "deflate" content coding.
+     * @param acceptEncoding The value of the "Accept-Encoding" header
+     * @return The content coding, or {@code null} if no supported content coding is acceptable
+     */
+    public static String negotiate(
+        final String acceptEncoding) {
+
+        String coding;
+        String result;
+        int index;
+
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        result = null;
+
+        for (String token : acceptEncoding.split(",")) {
+            index = token.indexOf(';');
+            coding = ((index < 0) ? token : token.substring(0, index)).trim();
+
+            if ((index >= 0) && (token.substring(index + 1).replace(" ", "").matches("q=0(\\.0*)?") == true)) {
+                continue;
+            }
+
+            if ((GZIP.equalsIgnoreCase(coding) == true) || ("x-gzip".equalsIgnoreCase(coding) == true)) {
+                return GZIP;
+            }
+
+            if (DEFLATE.equalsIgnoreCase(coding) == true) {
+                result = DEFLATE;
+            }
+
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalize content coding.
+     * @param contentEncoding The value of the "Content-Encoding" header
+     * @return The supported content coding, or {@code null} if the content coding is not supported
+     */
+    public static String getCoding(
+        final String contentEncoding) {
+
+        String coding;
+
+        if (contentEncoding == null) {
+            return null;
+        }
+
+        coding = contentEncoding.trim();
+
+        if ((GZIP.equalsIgnoreCase(coding) == true) || ("x-gzip".equalsIgnoreCase(coding) == true)) {
+            return GZIP;
+        }
+
+        if (DEFLATE.equalsIgnoreCase(coding) == true) {
+            return DEFLATE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Create stream which compresses everything that is written to it into the target stream.
+     * Closing the stream finishes the compressed data, returns the deflater to the pool and
+     * closes the target stream.
+     * @param target The target stream
+     * @param coding The content coding
+     * @return The compressing stream
+     * @throws IOException if unable to write to the target stream
+     */
+    public OutputStream compress(
+        final OutputStream target,
+        final String coding) throws IOException {
+
+        return new CompressingStream(target, GZIP.equals(coding));
+    }
+
+    /**
+     * Compress content.
+     * @param content The content
+     * @param coding The content coding
+     * @return The compressed content
+     * @throws IOException if unable to compress the content
+     */
+    public byte[] compress(
+        final byte[] content,
+        final String coding) throws IOException {
+
+        ByteArrayOutputStream outputStream;
+        OutputStream compressingStream;
+
+        outputStream = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        compressingStream = compress(outputStream, coding);
+
+        try {
+
+            compressingStream.write(content);
+        }
+        finally {
+            compressingStream.close();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Create stream which decompresses the content of the source stream.  Closing the stream
+     * returns the inflater to the pool and closes the source stream.
+     * @param source The source stream
+     * @param coding The content coding
+     * @return The decompressing stream
+     * @throws IOException if unable to read the header of the compressed data
+     */
+    public InputStream decompress(
+        final InputStream source,
+        final String coding) throws IOException {
+
+        return new DecompressingStream(source, GZIP.equals(coding));
+    }
+
+    /**
+     * Stream which compresses everything that is written to it.
+     */
+    private final class CompressingStream extends FilterOutputStream {
+
+        private final boolean gzip;
+
+        private final byte[] buffer;
+
+        private final CRC32 crc;
+
+        private Deflater deflater;
+
+        private boolean pending;
+
+        private CompressingStream(
+            final OutputStream target,
+            final boolean gzip) throws IOException {
+
+            super(target);
+
+            this.gzip = gzip;
+
+            this.buffer = new byte[BUFFER_SIZE];
+
+            this.crc = (gzip == true) ? new CRC32() : null;
+
+            this.deflater = (gzip == true) ? gzipDeflaters.acquire() : zlibDeflaters.acquire();
+
+            if (gzip == true) {
+                out.write(GZIP_HEADER);
+            }
+
+        }
+
+        public void write(
+            final int value) throws IOException {
+
+            write(new byte[] {(byte) value}, 0, 1);
+        }
+
+        public void write(
+            final byte[] bytes,
+            final int offset,
+            final int length) throws IOException {
+
+            if (deflater == null) {
+                throw new IOException("Stream closed");
+            }
+
+            if (length == 0) {
+                return;
+            }
+
+            if (gzip == true) {
+                crc.update(bytes, offset, length);
+            }
+
+            deflater.setInput(bytes, offset, length);
+
+            while (deflater.needsInput() == false) {
+                deflate(Deflater.NO_FLUSH);
+            }
+
+            pending = true;
+        }
+
+        public void flush() throws IOException {
+
+            int length;
+
+            if ((deflater != null) && (pending == true)) {
+
+                do {
+                    length = deflate(Deflater.SYNC_FLUSH);
+                }
+                while (length == buffer.length);
+
+                pending = false;
+            }
+
+            out.flush();
+        }
+
+        public void close() throws IOException {
+
+            Deflater deflater;
+
+            if (this.deflater == null) {
+                return;
+            }
+
+            deflater = this.deflater;
+
+            try {
+                deflater.finish();
+
+                while (deflater.finished() == false) {
+                    deflate(Deflater.NO_FLUSH);
+                }
+
+                if (gzip == true) {
+                    writeInt((int) crc.getValue());
+                    writeInt(deflater.getTotalIn());
+                }
+
+            }
+            finally {
+                this.deflater = null;
+
+                if (gzip == true) {
+                    gzipDeflaters.release(deflater);
+                }
+                else {
+                    zlibDeflaters.release(deflater);
+                }
+
+                out.close();
+            }
+
+        }
+
+        private int deflate(
+            final int flush) throws IOException {
+
+            int length;
+
+            length = deflater.deflate(buffer, 0, buffer.length, flush);
+
+            if (length > 0) {
+                out.write(buffer, 0, length);
+            }
+
+            return length;
+        }
+
+        private void writeInt(
+            final int value) throws IOException {
+
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+
+    }
+
+    /**
+     * Stream which decompresses the content of a source stream.
+     */
+    private final class DecompressingStream extends InputStream {
+
+        private final InputStream source;
+
+        private final boolean gzip;
+
+        private final byte[] buffer;
+
+        private final CRC32 crc;
+
+        private Inflater inflater;
+
+        private int limit;
+
+        private boolean finished;
+
+        private DecompressingStream(
+            final InputStream source,
+            final boolean gzip) throws IOException {
+
+            super();
+
+            this.source = source;
+
+            this.gzip = gzip;
+
+            this.buffer = new byte[BUFFER_SIZE];
+
+            this.crc = (gzip == true) ? new CRC32() : null;
+
+            if (gzip == true) {
+                readHeader();
+            }
+
+            this.inflater = (gzip == true) ? gzipInflaters.acquire() : zlibInflaters.acquire();
+        }
+
+        public int read() throws IOException {
+
+            byte[] bytes = new byte[1];
+
+            return (read(bytes, 0, 1) == -1) ? -1 : (bytes[0] & 0xff);
+        }
+
+        public int read(
+            final byte[] bytes,
+            final int offset,
+            final int length) throws IOException {
+
+            int count;
+
+            if (inflater == null) {
+                throw new IOException("Stream closed");
+            }
+
+            if (length == 0) {
+                return 0;
+            }
+
+            if (finished == true) {
+                return -1;
+            }
+
+            try {
+
+                while (true) {
+                    count = inflater.inflate(bytes, offset, length);
+
+                    if (count > 0) {
+
+                        if (gzip == true) {
+                            crc.update(bytes, offset, count);
+                        }
+
+                        return count;
+                    }
+
+                    if (inflater.finished() == true) {
+                        finished = true;
+
+                        if (gzip == true) {
+                            readTrailer();
+                        }
+
+                        return -1;
+                    }
+
+                    if (inflater.needsDictionary() == true) {
+                        throw new ZipException("Preset dictionary is not supported");
+                    }
+
+                    limit = source.read(buffer, 0, buffer.length);
+
+                    if (limit == -1) {
+                        throw new EOFException("Unexpected end of compressed stream");
+                    }
+
+                    inflater.setInput(buffer, 0, limit);
+                }
+
+            }
+            catch (DataFormatException exception) {
+                throw new ZipException("Invalid compressed stream: " + exception.getMessage());
+            }
+
+        }
+
+        public void close() throws IOException {
+
+            Inflater inflater;
+
+            if (this.inflater == null) {
+                return;
+            }
+
+            inflater = this.inflater;
+            this.inflater = null;
+
+            if (gzip == true) {
+                gzipInflaters.release(inflater);
+            }
+            else {
+                zlibInflaters.release(inflater);
+            }
+
+            source.close();
+        }
+
+        private void readHeader() throws IOException {
+
+            int flags;
+
+            if (readShort(source) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+
+            if (readByte(source) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+
+            flags = readByte(source);
+
+            skip(source, 6);
+
+            if ((flags & FEXTRA) == FEXTRA) {
+                skip(source, readShort(source));
+            }
+
+            if ((flags & FNAME) == FNAME) {
+                while (readByte(source) != 0) {}
+            }
+
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                while (readByte(source) != 0) {}
+            }
+
+            if ((flags & FHCRC) == FHCRC) {
+                skip(source, 2);
+            }
+
+        }
+
+        private void readTrailer() throws IOException {
+
+            InputStream trailer;
+            int remaining;
+
+            remaining = inflater.getRemaining();
+
+            trailer = (remaining > 0)
+                ? new SequenceInputStream(new ByteArrayInputStream(buffer, limit - remaining, remaining), source)
+                : source;
+
+            if ((readInt(trailer) != crc.getValue()) || (readInt(trailer) != (inflater.getBytesWritten() & 0xffffffffL))) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+
+        }
+
+        private long readInt(
+            final InputStream stream) throws IOException {
+
+            return ((long) readShort(stream)) | (((long) readShort(stream)) << 16);
+        }
+
+        private int readShort(
+            final InputStream stream) throws IOException {
+
+            return readByte(stream) | (readByte(stream) << 8);
+        }
+
+        private int readByte(
+            final InputStream stream) throws IOException {
+
+            int value;
+
+            value = stream.read();
+
+            if (value == -1) {
+                throw new EOFException("Unexpected end of compressed stream");
+            }
+
+            return value;
+        }
+
+        private void skip(
+            final InputStream stream,
+            final int count) throws IOException {
+
+            for (int i = 0; i < count; i++) {
+                readByte(stream);
+            }
+
+        }
+
+    }
+
+    /**
+     * Bounded pool of idle instances.
+     * @param <T> The instance type
+     */
+    private static final class Pool<T> {
+
+        private final ConcurrentLinkedQueue<T> queue;
+
+        private final AtomicInteger size;
+
+        private final int capacity;
+
+        private final Supplier<T> factory;
+
+        private final Consumer<T> reset;
+
+        private final Consumer<T> end;
+
+        private Pool(
+            final int capacity,
+            final Supplier<T> factory,
+            final Consumer<T> reset,
+            final Consumer<T> end) {
+
+            this.queue = new ConcurrentLinkedQueue<T>();
+
+            this.size = new AtomicInteger();
+
+            this.capacity = capacity;
+
+            this.factory = factory;
+
+            this.reset = reset;
+
+            this.end = end;
+        }
+
+        private T acquire() {
+
+            T instance;
+
+            instance = queue.poll();
+
+            if (instance == null) {
+                return factory.get();
+            }
+
+            size.decrementAndGet();
+
+            return instance;
+        }
+
+        private void release(
+            final T instance) {
+
+            reset.accept(instance);
+
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                end.accept(instance);
+
+                return;
+            }
+
+            queue.offer(instance);
+        }
+
+    }
+
+}
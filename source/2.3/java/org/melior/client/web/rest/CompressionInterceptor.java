@@ -0,0 +1,201 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Negotiates compression of the HTTP messages that are exchanged with the HTTP end-point.
+ * <p>
+ * The interceptor advertises the "gzip" and "deflate" content codings in the "Accept-Encoding"
+ * header of every request, and decompresses responses which use either content coding with
+ * pooled {@code Inflater} instances.  Request bodies which are at least as large as the request
+ * compression threshold are compressed with the "gzip" content coding.  The interceptor must
+ * run before the interceptor which frames the request body, so that the compressed body is
+ * framed, but the "Content-Length" header is corrected if the body has already been framed.
+ * @author Melior
+ * @since 2.3
+ */
+class CompressionInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+    private static final String ACCEPT_ENCODING = CompressionCodec.GZIP + ", " + CompressionCodec.DEFLATE;
+
+    private CompressionCodec codec;
+
+    private int requestThreshold;
+
+    /**
+     * Constructor.
+     * @param codec The compression codec
+     * @param requestThreshold The minimum size of a request body to compress, or 0 to never compress request bodies
+     */
+    CompressionInterceptor(
+        final CompressionCodec codec,
+        final int requestThreshold) {
+
+        super();
+
+        this.codec = codec;
+
+        this.requestThreshold = requestThreshold;
+    }
+
+    /**
+     * Advertise supported content codings and compress request body if it is large enough.
+     * @param request The HTTP request
+     * @param context The HTTP context
+     * @throws HttpException if the request is invalid
+     * @throws IOException if unable to compress the request body
+     */
+    public void process(
+        final HttpRequest request,
+        final HttpContext context) throws HttpException, IOException {
+
+        HttpEntity entity;
+        ByteArrayEntity compressedEntity;
+
+        if (request.containsHeader(HttpHeaders.ACCEPT_ENCODING) == false) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
+
+        if ((requestThreshold <= 0) || ((request instanceof HttpEntityEnclosingRequest) == false)) {
+            return;
+        }
+
+        entity = ((HttpEntityEnclosingRequest) request).getEntity();
+
+        if ((entity == null) || (entity.getContentEncoding() != null)
+            || (request.containsHeader(HttpHeaders.CONTENT_ENCODING) == true)
+            || (entity.isRepeatable() == false) || (entity.getContentLength() < requestThreshold)) {
+            return;
+        }
+
+        compressedEntity = new ByteArrayEntity(codec.compress(EntityUtils.toByteArray(entity), CompressionCodec.GZIP));
+        compressedEntity.setContentType(entity.getContentType());
+
+        ((HttpEntityEnclosingRequest) request).setEntity(compressedEntity);
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, CompressionCodec.GZIP);
+
+        if (request.containsHeader(HttpHeaders.CONTENT_LENGTH) == true) {
+            request.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(compressedEntity.getContentLength()));
+        }
+
+    }
+
+    /**
+     * Decompress response body if it uses a supported content coding.
+     * @param response The HTTP response
+     * @param context The HTTP context
+     * @throws HttpException if the response is invalid
+     * @throws IOException if unable to decompress the response body
+     */
+    public void process(
+        final HttpResponse response,
+        final HttpContext context) throws HttpException, IOException {
+
+        HttpEntity entity;
+        Header contentEncoding;
+        String coding;
+
+        entity = response.getEntity();
+
+        if ((entity == null) || (entity.getContentLength() == 0)) {
+            return;
+        }
+
+        contentEncoding = entity.getContentEncoding();
+
+        if (contentEncoding == null) {
+            return;
+        }
+
+        coding = CompressionCodec.getCoding(contentEncoding.getValue());
+
+        if (coding == null) {
+            return;
+        }
+
+        response.setEntity(new DecompressingEntity(entity, coding));
+        response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+        response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+        response.removeHeaders(HttpHeaders.CONTENT_MD5);
+    }
+
+    /**
+     * Entity which decompresses the content of a compressed entity.
+     */
+    private final class DecompressingEntity extends HttpEntityWrapper {
+
+        private final String coding;
+
+        private InputStream content;
+
+        private DecompressingEntity(
+            final HttpEntity entity,
+            final String coding) {
+
+            super(entity);
+
+            this.coding = coding;
+        }
+
+        public InputStream getContent() throws IOException {
+
+            if (wrappedEntity.isStreaming() == false) {
+                return codec.decompress(wrappedEntity.getContent(), coding);
+            }
+
+            if (content == null) {
+                content = codec.decompress(wrappedEntity.getContent(), coding);
+            }
+
+            return content;
+        }
+
+        public void writeTo(
+            final OutputStream outputStream) throws IOException {
+
+            byte[] buffer = new byte[8192];
+            int length;
+
+            try (InputStream inputStream = getContent()) {
+
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+
+            }
+
+        }
+
+        public Header getContentEncoding() {
+            return null;
+        }
+
+        public long getContentLength() {
+            return -1;
+        }
+
+    }
+
+}
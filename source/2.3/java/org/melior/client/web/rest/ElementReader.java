@@ -0,0 +1,41 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+
+/**
+ * Reads the elements of a streaming response one at a time.
+ * @author Melior
+ * @since 2.3
+ * @param <T> The element type
+ * @see ResponseIterator
+ */
+interface ElementReader<T> {
+
+    /**
+     * Advance to the next element.
+     * @return true if there is another element, false otherwise
+     * @throws IOException if unable to read the response
+     */
+    public boolean hasNext() throws IOException;
+
+    /**
+     * Read the next element.
+     * @return The element
+     * @throws IOException if unable to read or bind the element
+     */
+    public T next() throws IOException;
+
+    /**
+     * Release the resources of the reader.
+     * @throws IOException if unable to release the resources
+     */
+    public void close() throws IOException;
+
+}
@@ -0,0 +1,70 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+import java.io.InputStream;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads the elements of a top-level JSON array, or the values of a newline delimited
+ * JSON document, one at a time with a Jackson {@code JsonParser} over the response stream.
+ * The parser leaves the response stream open, so that the {@code ResponseIterator} decides
+ * whether the connection is drained and reused, or discarded.
+ * @author Melior
+ * @since 2.3
+ * @param <T> The element type
+ */
+class JsonElementReader<T> implements ElementReader<T> {
+
+    private MappingIterator<T> iterator;
+
+    /**
+     * Constructor.
+     * @param objectReader The object reader for the element type
+     * @param inputStream The response stream
+     * @throws IOException if unable to start reading the response stream
+     */
+    JsonElementReader(
+        final ObjectReader objectReader,
+        final InputStream inputStream) throws IOException {
+
+        super();
+
+        this.iterator = objectReader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValues(inputStream);
+    }
+
+    /**
+     * Advance to the next element.
+     * @return true if there is another element, false otherwise
+     * @throws IOException if unable to read the response
+     */
+    public boolean hasNext() throws IOException {
+        return iterator.hasNextValue();
+    }
+
+    /**
+     * Read the next element.
+     * @return The element
+     * @throws IOException if unable to read or bind the element
+     */
+    public T next() throws IOException {
+        return iterator.nextValue();
+    }
+
+    /**
+     * Release the resources of the reader.
+     * @throws IOException if unable to release the resources
+     */
+    public void close() throws IOException {
+        iterator.close();
+    }
+
+}
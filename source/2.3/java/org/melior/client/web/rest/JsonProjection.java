@@ -0,0 +1,239 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A projection of a JSON document onto a set of JSON Pointers.  When a response is read
+ * through a projection, then only the values which are addressed by the pointers are
+ * read into a tree, with the same structure as the document.  The subtrees which are
+ * not addressed are skipped without being bound, and reading stops as soon as all the
+ * addressed values have been found, so that the rest of the document is not parsed.
+ * <p>
+ * The elements of an array which precede an addressed element are {@code null} in the
+ * tree, so that the addressed element keeps its index.  The values may be read from the
+ * tree with {@code JsonNode.at}, or the tree may be bound to a view class which declares
+ * only the projected properties.
+ * <p>
+ * A projection is immutable, so it may be compiled once and shared.
+ * @author Melior
+ * @since 2.3
+ */
+public final class JsonProjection {
+
+    private Segment root;
+
+    private int leafCount;
+
+    /**
+     * Constructor.
+     * @param root The root segment
+     */
+    private JsonProjection(
+        final Segment root) {
+
+        super();
+
+        this.root = root;
+
+        this.leafCount = root.countLeaves();
+    }
+
+    /**
+     * Create projection of JSON document onto JSON Pointers.
+     * @param pointers The JSON Pointers, for example {@code /customer/name} or {@code /items/0/id}
+     * @return The projection
+     * @throws IllegalArgumentException if a JSON Pointer is not valid
+     */
+    public static JsonProjection of(
+        final String... pointers) {
+
+        Segment root;
+        Segment segment;
+        JsonPointer pointer;
+
+        if ((pointers == null) || (pointers.length == 0)) {
+            throw new IllegalArgumentException("At least one JSON Pointer must be provided.");
+        }
+
+        root = new Segment();
+
+        for (String expression : pointers) {
+            segment = root;
+
+            for (pointer = JsonPointer.compile(expression); pointer.matches() == false; pointer = pointer.tail()) {
+                segment = segment.getChild(pointer.getMatchingProperty());
+            }
+
+            segment.leaf = true;
+        }
+
+        return new JsonProjection(root);
+    }
+
+    /**
+     * Read the projected values from a parser, which has not yet advanced to the first token.
+     * @param objectMapper The object mapper which binds the projected values
+     * @param parser The parser
+     * @return The tree of projected values, or a missing node if none of the values were found
+     * @throws IOException if unable to read the document
+     */
+    JsonNode read(
+        final ObjectMapper objectMapper,
+        final JsonParser parser) throws IOException {
+
+        JsonNode node;
+
+        if (parser.nextToken() == null) {
+            return MissingNode.getInstance();
+        }
+
+        node = read(objectMapper, parser, root, new int[1]);
+
+        return (node == null) ? MissingNode.getInstance() : node;
+    }
+
+    /**
+     * Read the projected values of the current value of a parser.
+     * @param objectMapper The object mapper which binds the projected values
+     * @param parser The parser, positioned at the first token of the value
+     * @param segment The segment which addresses the value
+     * @param found The number of leaves which have been found so far
+     * @return The tree of projected values, or null if none of the values were found
+     * @throws IOException if unable to read the document
+     */
+    private JsonNode read(
+        final ObjectMapper objectMapper,
+        final JsonParser parser,
+        final Segment segment,
+        final int[] found) throws IOException {
+
+        ObjectNode objectNode = null;
+        ArrayNode arrayNode = null;
+        String name;
+        Segment child;
+        JsonNode node;
+        int index;
+
+        if (segment.leaf == true) {
+            found[0]++;
+
+            return objectMapper.readTree(parser);
+        }
+
+        if (parser.hasToken(JsonToken.START_OBJECT) == true) {
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                name = parser.getCurrentName();
+                child = segment.children.get(name);
+                parser.nextToken();
+
+                if (child == null) {
+                    parser.skipChildren();
+
+                    continue;
+                }
+
+                node = read(objectMapper, parser, child, found);
+
+                if (node != null) {
+                    objectNode = (objectNode == null) ? JsonNodeFactory.instance.objectNode() : objectNode;
+                    objectNode.set(name, node);
+                }
+
+                if (found[0] == leafCount) {
+                    break;
+                }
+
+            }
+
+            return objectNode;
+        }
+
+        if (parser.hasToken(JsonToken.START_ARRAY) == true) {
+
+            for (index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+                child = segment.children.get(Integer.toString(index));
+
+                if (child == null) {
+                    parser.skipChildren();
+
+                    continue;
+                }
+
+                node = read(objectMapper, parser, child, found);
+
+                if (node != null) {
+                    arrayNode = (arrayNode == null) ? JsonNodeFactory.instance.arrayNode() : arrayNode;
+
+                    while (arrayNode.size() < index) {
+                        arrayNode.addNull();
+                    }
+
+                    arrayNode.add(node);
+                }
+
+                if (found[0] == leafCount) {
+                    break;
+                }
+
+            }
+
+            return arrayNode;
+        }
+
+        parser.skipChildren();
+
+        return null;
+    }
+
+    /**
+     * A segment of the JSON Pointers of a projection, which is a property name or an array index.
+     */
+    private static final class Segment {
+
+        private Map<String, Segment> children = new HashMap<String, Segment>();
+
+        private boolean leaf;
+
+        private Segment getChild(
+            final String name) {
+
+            return children.computeIfAbsent(name, key -> new Segment());
+        }
+
+        private int countLeaves() {
+
+            int count = 0;
+
+            if (leaf == true) {
+                return 1;
+            }
+
+            for (Segment child : children.values()) {
+                count += child.countLeaves();
+            }
+
+            return count;
+        }
+
+    }
+
+}
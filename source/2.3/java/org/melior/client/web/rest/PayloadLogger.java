@@ -0,0 +1,594 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.melior.context.transaction.TransactionContext;
+import org.melior.logging.core.Logger;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes the payloads of requests and responses to the logs at debug level.
+ * <p>
+ * Whether a payload is logged is decided before anything is rendered: debug logging must
+ * be enabled for the class of the logger, the payload must be on a path that is enabled for
+ * logging, and it must be selected by the sampler.  A payload that is selected is handed to
+ * the logger as a message which is only rendered when the logger formats it.
+ * <p>
+ * When rendered, the payload is serialized if it is not yet a string, the values of the
+ * configured fields are redacted from JSON payloads with a single streaming pass, and the
+ * payload is truncated to the configured maximum length.  When asynchronous logging is
+ * enabled, then only as much of the payload is kept as may be logged, for which an object
+ * is serialized on the calling thread, and the message is handed to a single background
+ * thread, with the tracking data of the transaction context of the calling thread, so
+ * that the payload is redacted and written without holding up the request.  Messages are
+ * dropped when the background thread falls too far behind.
+ * @author Melior
+ * @since 2.3
+ */
+public final class PayloadLogger {
+
+    private static final int QUEUE_SIZE = 10000;
+
+    private static final String REDACTED = "***";
+
+    private static final ObjectMapper OBJECT_MAPPER = RestObjectMapper.ofJSON(false);
+
+    private static volatile ThreadPoolExecutor executor;
+
+    private Logger logger;
+
+    private Log levelLogger;
+
+    private boolean enabled;
+
+    private double sampleRate;
+
+    private String[] paths;
+
+    private int maxLength;
+
+    private Set<String> redactFields;
+
+    private boolean async;
+
+    /**
+     * Constructor.
+     * @param logger The logger
+     * @param loggerType The class of the logger, for which debug logging must be enabled
+     * @param enabled true if payloads should be logged, false otherwise
+     * @param sampleRate The fraction of payloads to log, from 0 to 1
+     * @param paths The path prefixes on which payloads should be logged, or empty to log payloads on all paths
+     * @param maxLength The maximum number of characters of a payload to log, or 0 to log payloads in full
+     * @param redactFields The names of the JSON fields whose values should be redacted
+     * @param async true if payloads should be logged on a background thread, false otherwise
+     */
+    public PayloadLogger(
+        final Logger logger,
+        final Class<?> loggerType,
+        final boolean enabled,
+        final double sampleRate,
+        final List<String> paths,
+        final int maxLength,
+        final List<String> redactFields,
+        final boolean async) {
+
+        super();
+
+        this.logger = logger;
+
+        this.levelLogger = LogFactory.getLog(loggerType);
+
+        this.enabled = (enabled == true) && (sampleRate > 0);
+
+        this.sampleRate = sampleRate;
+
+        this.paths = (paths == null) ? new String[0] : paths.toArray(new String[0]);
+
+        this.maxLength = maxLength;
+
+        this.redactFields = (redactFields == null) ? new HashSet<>() : new HashSet<>(redactFields);
+
+        this.async = async;
+    }
+
+    /**
+     * Log payload.
+     * @param methodName The method name
+     * @param label The label which precedes the payload
+     * @param path The path of the request
+     * @param payload The payload, which is either a string, a byte array with UTF-8 encoded text, or an object to serialize as JSON
+     */
+    public void log(
+        final String methodName,
+        final String label,
+        final String path,
+        final Object payload) {
+
+        log(methodName, label, path, payload, null);
+    }
+
+    /**
+     * Log payload.
+     * @param methodName The method name
+     * @param label The label which precedes the payload
+     * @param path The path of the request
+     * @param payload The payload, which is either a string, a byte array with UTF-8 encoded text, or an object to serialize as JSON
+     * @param objectWriter The object writer which serializes an object payload as JSON, or {@code null} to use the default object writer
+     */
+    public void log(
+        final String methodName,
+        final String label,
+        final String path,
+        final Object payload,
+        final ObjectWriter objectWriter) {
+
+        if ((payload == null) || (isLogged(path) == false)) {
+            return;
+        }
+
+        write(methodName, label, payload, objectWriter);
+    }
+
+    /**
+     * Check whether payload on path is logged.  The sampler is consulted on every call, so
+     * a payload which is selected must then be written with {@code write}.
+     * @param path The path of the request
+     * @return true if the payload is logged, false otherwise
+     */
+    public boolean isLogged(
+        final String path) {
+
+        return (enabled == true) && (levelLogger.isDebugEnabled() == true) && (isPathEnabled(path) == true) && (isSampled() == true);
+    }
+
+    /**
+     * Write payload which has been selected with {@code isLogged}.
+     * @param methodName The method name
+     * @param label The label which precedes the payload
+     * @param payload The payload, which is either a string, a byte array with UTF-8 encoded text, or an object to serialize as JSON
+     */
+    public void write(
+        final String methodName,
+        final String label,
+        final Object payload) {
+
+        write(methodName, label, payload, null);
+    }
+
+    /**
+     * Write payload which has been selected with {@code isLogged}.
+     * @param methodName The method name
+     * @param label The label which precedes the payload
+     * @param payload The payload, which is either a string, a byte array with UTF-8 encoded text, or an object to serialize as JSON
+     * @param objectWriter The object writer which serializes an object payload as JSON, or {@code null} to use the default object writer
+     */
+    private void write(
+        final String methodName,
+        final String label,
+        final Object payload,
+        final ObjectWriter objectWriter) {
+
+        Message message;
+        TransactionContext transactionContext;
+        String originId;
+        String transactionId;
+        String correlationId;
+        String operation;
+
+        if (async == false) {
+            logger.debug(methodName, label, new Message(payload, objectWriter));
+
+            return;
+        }
+
+        message = retain(payload, objectWriter);
+
+        transactionContext = TransactionContext.get();
+        originId = transactionContext.getOriginId();
+        transactionId = transactionContext.getTransactionId();
+        correlationId = transactionContext.getCorrelationId();
+        operation = transactionContext.getOperation();
+
+        getExecutor().execute(() -> {
+
+            TransactionContext context;
+
+            context = TransactionContext.get();
+            context.startTransaction();
+            context.setOriginId(originId);
+            context.setTransactionId(transactionId);
+            context.setCorrelationId(correlationId);
+            context.setOperation(operation);
+
+            try {
+
+                logger.debug(methodName, label, message);
+            }
+            finally {
+                context.reset();
+            }
+
+        });
+
+    }
+
+    /**
+     * Create message which keeps no more of the payload than may be logged, so that a queued
+     * message does not hold on to the payload.  An object payload is serialized here, and the
+     * serialization is abandoned as soon as the maximum length has been reached.
+     * @param payload The payload
+     * @param objectWriter The object writer which serializes an object payload, or {@code null} to use the default object writer
+     * @return The message
+     */
+    private Message retain(
+        final Object payload,
+        final ObjectWriter objectWriter) {
+
+        LimitedWriter writer;
+
+        if (maxLength <= 0) {
+            return new Message(payload, objectWriter);
+        }
+
+        if (payload instanceof String) {
+            return (((String) payload).length() <= maxLength) ? new Message(payload, null)
+                : new Message(((String) payload).substring(0, maxLength), ((String) payload).length());
+        }
+
+        if (payload instanceof byte[]) {
+            return (((byte[]) payload).length <= maxLength * 4L) ? new Message(payload, null)
+                : new Message(Arrays.copyOf((byte[]) payload, maxLength * 4), -1);
+        }
+
+        writer = new LimitedWriter(maxLength + 1);
+
+        try {
+
+            ((objectWriter == null) ? OBJECT_MAPPER.writer() : objectWriter).writeValue(writer, payload);
+        }
+        catch (Exception exception) {
+
+            if (writer.isFull() == false) {
+                return new Message("[unable to render payload: " + exception.getMessage() + "]", null);
+            }
+
+        }
+
+        return (writer.isFull() == true) ? new Message(writer.toString(), -1) : new Message(writer.toString(), null);
+    }
+
+    /**
+     * Check whether payloads are logged on path.
+     * @param path The path of the request
+     * @return true if payloads are logged on the path, false otherwise
+     */
+    private boolean isPathEnabled(
+        final String path) {
+
+        if (paths.length == 0) {
+            return true;
+        }
+
+        if (path == null) {
+            return false;
+        }
+
+        for (String prefix : paths) {
+
+            if (path.startsWith(prefix) == true) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Check whether payload is selected by sampler.
+     * @return true if the payload is selected, false otherwise
+     */
+    private boolean isSampled() {
+        return (sampleRate >= 1) || (ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Get executor which logs payloads on a background thread.  The executor is created
+     * when it is first needed, and is shared by all payload loggers.
+     * @return The executor
+     */
+    private static ThreadPoolExecutor getExecutor() {
+
+        ThreadPoolExecutor threadPoolExecutor;
+
+        threadPoolExecutor = executor;
+
+        if (threadPoolExecutor != null) {
+            return threadPoolExecutor;
+        }
+
+        synchronized (PayloadLogger.class) {
+
+            if (executor == null) {
+
+                executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), (runnable) -> {
+
+                    Thread thread;
+
+                    thread = new Thread(runnable, "payload-logger");
+                    thread.setDaemon(true);
+
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+            }
+
+            return executor;
+        }
+
+    }
+
+    /**
+     * Render payload.
+     * @param message The message
+     * @return The rendered payload
+     */
+    private String render(
+        final Message message) {
+
+        String text;
+        String redacted;
+
+        try {
+
+            text = (message.payload instanceof String) ? (String) message.payload
+                : (message.payload instanceof byte[]) ? decode((byte[]) message.payload)
+                : ((message.objectWriter == null) ? OBJECT_MAPPER.writer() : message.objectWriter).writeValueAsString(message.payload);
+        }
+        catch (Exception exception) {
+            return "[unable to render payload: " + exception.getMessage() + "]";
+        }
+
+        if (redactFields.isEmpty() == false) {
+            redacted = redact(text, message.complete);
+
+            if (redacted != null) {
+                return redacted;
+            }
+
+        }
+
+        return truncate(text, (message.complete == false) ? message.length : (message.payload instanceof byte[]) ? -1 : text.length(), message.complete);
+    }
+
+    /**
+     * Decode UTF-8 encoded payload.  When the payload is truncated, then no more of the
+     * payload is decoded than may be logged.
+     * @param payload The payload
+     * @return The decoded payload
+     */
+    private String decode(
+        final byte[] payload) {
+
+        int length;
+
+        length = ((maxLength > 0) && (redactFields.isEmpty() == true)) ? (int) Math.min(payload.length, maxLength * 4L) : payload.length;
+
+        return new String(payload, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redact values of configured fields from JSON payload.  The payload is copied token by
+     * token, and copying stops as soon as the maximum length has been reached.  When only
+     * the start of the payload has been kept, then the payload is copied up to the first
+     * token which has been cut off.
+     * @param payload The payload
+     * @param complete true if the payload is complete, false if only the start of the payload has been kept
+     * @return The redacted payload, or {@code null} if the payload is not JSON
+     */
+    private String redact(
+        final String payload,
+        final boolean complete) {
+
+        StringWriter writer;
+        JsonToken token;
+
+        writer = new StringWriter(Math.min(payload.length(), (maxLength > 0) ? maxLength + 16 : payload.length()));
+
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(payload);
+            JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            while ((token = parser.nextToken()) != null) {
+
+                if ((token == JsonToken.FIELD_NAME) && (redactFields.contains(parser.getCurrentName()) == true)) {
+                    generator.writeFieldName(parser.getCurrentName());
+
+                    parser.nextToken();
+                    parser.skipChildren();
+
+                    generator.writeString(REDACTED);
+                }
+                else {
+
+                    generator.copyCurrentEvent(parser);
+                }
+
+                if ((maxLength > 0) && (writer.getBuffer().length() > maxLength)) {
+                    generator.flush();
+
+                    return truncate(writer.toString(), -1, true);
+                }
+
+            }
+
+            generator.flush();
+        }
+        catch (Exception exception) {
+            return ((complete == false) && (writer.getBuffer().length() > 0)) ? truncate(writer.toString(), -1, false) : null;
+        }
+
+        return truncate(writer.toString(), -1, complete);
+    }
+
+    /**
+     * Truncate payload to maximum length.
+     * @param payload The payload
+     * @param length The full length of the payload, or -1 if it is not known
+     * @param complete true if the payload is complete, false if only the start of the payload has been kept
+     * @return The truncated payload
+     */
+    private String truncate(
+        final String payload,
+        final int length,
+        final boolean complete) {
+
+        if ((maxLength <= 0) || ((complete == true) && (payload.length() <= maxLength))) {
+            return payload;
+        }
+
+        return payload.substring(0, Math.min(payload.length(), maxLength)) + ((length < 0) ? "... (truncated)" : "... (truncated, " + length + " characters)");
+    }
+
+    /**
+     * A payload which is only rendered when the logger formats the message.
+     */
+    private final class Message {
+
+        private Object payload;
+
+        private ObjectWriter objectWriter;
+
+        private boolean complete;
+
+        private int length;
+
+        /**
+         * Constructor.
+         * @param payload The complete payload
+         * @param objectWriter The object writer which serializes an object payload, or {@code null} to use the default object writer
+         */
+        private Message(
+            final Object payload,
+            final ObjectWriter objectWriter) {
+
+            super();
+
+            this.payload = payload;
+
+            this.objectWriter = objectWriter;
+
+            this.complete = true;
+
+            this.length = -1;
+        }
+
+        /**
+         * Constructor.
+         * @param payload The start of the payload
+         * @param length The full length of the payload, or -1 if it is not known
+         */
+        private Message(
+            final Object payload,
+            final int length) {
+
+            super();
+
+            this.payload = payload;
+
+            this.complete = false;
+
+            this.length = length;
+        }
+
+        /**
+         * Render payload.
+         * @return The rendered payload
+         */
+        public String toString() {
+            return render(this);
+        }
+
+    }
+
+    /**
+     * Writer which collects characters up to a limit, and which fails when the limit has been
+     * reached, to abandon the serialization of a payload of which no more may be logged.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private StringBuilder buffer;
+
+        private int limit;
+
+        /**
+         * Constructor.
+         * @param limit The maximum number of characters to collect
+         */
+        private LimitedWriter(
+            final int limit) {
+
+            super();
+
+            this.buffer = new StringBuilder(Math.min(limit, 1024));
+
+            this.limit = limit;
+        }
+
+        /**
+         * Check whether limit has been reached.
+         * @return true if the limit has been reached, false otherwise
+         */
+        private boolean isFull() {
+            return buffer.length() >= limit;
+        }
+
+        public void write(
+            final char[] characters,
+            final int offset,
+            final int length) throws IOException {
+
+            buffer.append(characters, offset, Math.min(length, limit - buffer.length()));
+
+            if (isFull() == true) {
+                throw new IOException("Payload exceeds " + limit + " characters");
+            }
+
+        }
+
+        public void flush() {
+        }
+
+        public void close() {
+        }
+
+        public String toString() {
+            return buffer.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.melior.client.exception.RemotingException;
+import org.melior.service.exception.ExceptionType;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Iterates lazily over the elements of a streaming response, which are read from the
+ * connection one at a time as the iterator advances, so that only one element is held
+ * in memory at a time.
+ * <p>
+ * The iterator must be closed when it is no longer needed.  If the iterator is exhausted,
+ * then the connection is returned to the connection pool.  If the iterator is closed
+ * before it is exhausted, then the connection is discarded instead of reading the rest
+ * of the response.  The iterator is closed automatically when an error occurs.
+ * @author Melior
+ * @since 2.3
+ * @param <T> The element type
+ */
+public final class ResponseIterator<T> implements Iterator<T>, Closeable {
+
+    private CloseableHttpResponse response;
+
+    private ElementReader<T> reader;
+
+    private Boolean hasNext;
+
+    private boolean exhausted;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     * @param response The HTTP response
+     * @param reader The element reader
+     */
+    ResponseIterator(
+        final CloseableHttpResponse response,
+        final ElementReader<T> reader) {
+
+        super();
+
+        this.response = response;
+
+        this.reader = reader;
+    }
+
+    /**
+     * Check whether there is another element.
+     * @return true if there is another element, false otherwise
+     * @throws RemotingException if unable to read the response
+     */
+    public boolean hasNextValue() throws RemotingException {
+
+        if (closed == true) {
+            return false;
+        }
+
+        if (hasNext == null) {
+
+            try {
+
+                hasNext = reader.hasNext();
+            }
+            catch (Exception exception) {
+                close();
+
+                throw getException(exception);
+            }
+
+            if (hasNext == false) {
+                exhausted = true;
+
+                close();
+            }
+
+        }
+
+        return hasNext;
+    }
+
+    /**
+     * Get the next element.
+     * @return The element
+     * @throws RemotingException if unable to read the response, or if unable to bind the element
+     */
+    public T nextValue() throws RemotingException {
+
+        if (hasNextValue() == false) {
+            throw new NoSuchElementException();
+        }
+
+        hasNext = null;
+
+        try {
+
+            return reader.next();
+        }
+        catch (Exception exception) {
+            close();
+
+            throw getException(exception);
+        }
+
+    }
+
+    /**
+     * Check whether there is another element.
+     * @return true if there is another element, false otherwise
+     * @throws UncheckedRemotingException if unable to read the response
+     */
+    public boolean hasNext() {
+
+        try {
+
+            return hasNextValue();
+        }
+        catch (RemotingException exception) {
+            throw new UncheckedRemotingException(exception);
+        }
+
+    }
+
+    /**
+     * Get the next element.
+     * @return The element
+     * @throws UncheckedRemotingException if unable to read the response, or if unable to bind the element
+     */
+    public T next() {
+
+        try {
+
+            return nextValue();
+        }
+        catch (RemotingException exception) {
+            throw new UncheckedRemotingException(exception);
+        }
+
+    }
+
+    /**
+     * Get a sequential {@code Stream} over the remaining elements.  Closing the stream
+     * closes the iterator.
+     * @return The stream
+     */
+    public Stream<T> stream() {
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    /**
+     * Close the iterator and release the connection.
+     */
+    public void close() {
+
+        if (closed == true) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+
+            reader.close();
+
+            if (exhausted == true) {
+                EntityUtils.consume(response.getEntity());
+            }
+
+        }
+        catch (Exception exception) {
+        }
+        finally {
+
+            try {
+
+                response.close();
+            }
+            catch (IOException exception) {
+            }
+
+        }
+
+    }
+
+    /**
+     * Convert exception into remoting exception.
+     * @param exception The exception
+     * @return The remoting exception
+     */
+    private RemotingException getException(
+        final Exception exception) {
+
+        if (exception instanceof RemotingException) {
+            return (RemotingException) exception;
+        }
+
+        if ((exception instanceof JsonProcessingException) && ((exception instanceof JsonParseException) == false)) {
+            return new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+        }
+
+        return new RemotingException(ExceptionType.REMOTING_COMMUNICATION, "Failed to read response: " + exception.getMessage(), exception);
+    }
+
+}
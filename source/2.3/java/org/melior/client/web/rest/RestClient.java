@@ -7,18 +7,40 @@
         Service Harness
 */
 package org.melior.client.web.rest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import javax.net.ssl.SSLContext;
+import org.apache.http.Header;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.StatusLine;
 import org.apache.http.client.UserTokenHandler;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 import org.melior.client.core.RawAwarePayload;
 import org.melior.client.exception.RemotingException;
 import org.melior.client.exception.ResponseExceptionMapper;
@@ -42,7 +64,14 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 /**
  * Implements an easy to use, auto-configuring HTTP REST client with connection
@@ -52,11 +81,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * to the HTTP end-point.  The client automatically converts any exception that
  * occurs during communication with the HTTP end-point into a standard
  * {@code RemotingException}.
+ * <p>
+ * The payloads of requests and responses are written to the logs at debug level by a
+ * {@code PayloadLogger}, which may sample, truncate and redact the payloads, and which
+ * only renders a payload when it is actually logged.
  * @author Melior
  * @since 2.0
  */
 public class RestClient extends RestClientConfig {
 
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private static final int URI_TEMPLATE_CACHE_SIZE = 1000;
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private MediaType mediaType;
@@ -69,13 +110,37 @@ public class RestClient extends RestClientConfig {
 
     private boolean proxyAuth;
 
+    private String contentType;
+
+    private Charset charset;
+
+    private String accept;
+
+    private String streamAccept;
+
+    private Header[] staticHeaders;
+
+    private PayloadLogger payloadLogger;
+
     private boolean ssl;
 
     private SSLContext sslContext;
 
     private ObjectMapper objectMapper;
 
+    private boolean binary;
+
+    private Class<?>[] warmUpTypes;
+
+    private Map<Type, ObjectReader> readers;
+
+    private Map<Class<?>, ObjectWriter> writers;
+
+    private Map<String, CompiledUriTemplate> uriTemplates;
+
     private RestTemplate restTemplate;
+
+    private CloseableHttpClient httpClient;
 
     /**
      * Constructor.
@@ -85,6 +150,7 @@ public class RestClient extends RestClientConfig {
      * @param apiKeyAuth The API key authentication indicator
      * @param ssl The SSL indicator
      * @param sslContext The SSL context
+     * @param warmUpTypes The types for which to resolve readers and writers when the client is initialized
      */
     RestClient(
         final MediaType mediaType,
@@ -92,7 +158,8 @@ public class RestClient extends RestClientConfig {
         final boolean bearerAuth,
         final boolean apiKeyAuth,
         final boolean ssl,
-        final SSLContext sslContext) {
+        final SSLContext sslContext,
+        final Class<?>[] warmUpTypes) {
 
         super();
 
@@ -107,6 +174,14 @@ public class RestClient extends RestClientConfig {
         this.ssl = ssl;
 
         this.sslContext = sslContext;
+
+        this.warmUpTypes = warmUpTypes;
+
+        this.readers = new ConcurrentHashMap<Type, ObjectReader>();
+
+        this.writers = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+        this.uriTemplates = new ConcurrentHashMap<String, CompiledUriTemplate>();
     }
 
     /**
@@ -130,6 +205,7 @@ public class RestClient extends RestClientConfig {
         ConnectionManager connectionManager;
         RequestConfig requestConfig;
         HttpClientBuilder httpClientBuilder;
+        CompressionInterceptor compressionInterceptor;
         HttpComponentsClientHttpRequestFactory requestFactory;
 
         if (restTemplate != null) {
@@ -179,9 +255,34 @@ public class RestClient extends RestClientConfig {
 
                 objectMapper = RestObjectMapper.ofXML(false, false, true);
             }
+            else if (APPLICATION_SMILE.equalsTypeAndSubtype(mediaType) == true) {
+
+                objectMapper = RestObjectMapper.ofSmile(false);
+
+                binary = true;
+            }
+            else if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType) == true) {
+
+                objectMapper = RestObjectMapper.ofCBOR(false);
+
+                binary = true;
+            }
             else {
 
-                objectMapper = RestObjectMapper.ofJSON(false);
+                objectMapper = RestObjectMapper.ofJSON(false, isOptimizeMapper());
+            }
+
+            if ((isOptimizeMapper() == true)
+                && ((binary == true) || (objectMapper instanceof XmlMapper))) {
+
+                RestObjectMapper.optimize(objectMapper);
+            }
+
+            getReader(RestResponseExceptionMapper.class);
+
+            for (Class<?> warmUpType : warmUpTypes) {
+                getReader(warmUpType);
+                getWriter(warmUpType);
             }
 
             connectionManager = new ConnectionManager(this, ssl, sslContext);
@@ -207,6 +308,18 @@ public class RestClient extends RestClientConfig {
                     .setUserTokenHandler(new UserTokenHandler(){public Object getUserToken(HttpContext context) {return null;}});
             }
 
+            httpClientBuilder.disableContentCompression();
+
+            if (isCompression() == true) {
+                compressionInterceptor = new CompressionInterceptor(
+                    new CompressionCodec(getCompressionLevel(), Runtime.getRuntime().availableProcessors() * 2),
+                    getRequestCompressionThreshold());
+
+                httpClientBuilder
+                    .addInterceptorFirst((HttpRequestInterceptor) compressionInterceptor)
+                    .addInterceptorFirst((HttpResponseInterceptor) compressionInterceptor);
+            }
+
             if (StringUtils.hasLength(getProxyUrl()) == true) {
 
                 httpClientBuilder
@@ -219,8 +332,19 @@ public class RestClient extends RestClientConfig {
                 proxyAuth = true;
             }
 
+            contentType = mediaType.toString();
+            charset = getCharset(mediaType);
+            accept = mediaType.toString();
+            streamAccept = ((objectMapper instanceof XmlMapper) || (binary == true)) ? accept : MediaType.toString(Arrays.asList(mediaType, APPLICATION_NDJSON));
+            staticHeaders = getStaticHeaders();
+
+            payloadLogger = new PayloadLogger(logger, this.getClass(), isPayloadLogging(), getPayloadSampleRate(), getPayloadPaths(),
+                getPayloadMaxLength(), getPayloadRedactFields(), isPayloadAsync());
+
+            httpClient = httpClientBuilder.build();
+
             requestFactory = new HttpComponentsClientHttpRequestFactory();
-            requestFactory.setHttpClient(httpClientBuilder.build());
+            requestFactory.setHttpClient(httpClient);
 
             restTemplate = new RestTemplate();
             restTemplate.setRequestFactory(requestFactory);
@@ -441,6 +565,74 @@ public class RestClient extends RestClientConfig {
         return exchange(HttpMethod.GET, uriPath, null, httpHeaders, null, responseType, RestResponseExceptionMapper.class);
     }
 
+    /**
+     * Send GET request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rs> Rs get(
+        final String uriPath,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.GET, uriPath, null, null, null, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rs> Rs get(
+        final String uriPath,
+        final Object[] uriParameters,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.GET, uriPath, uriParameters, null, null, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rs> Rs get(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.GET, uriPath, uriParameters, httpHeaders, null, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param httpHeaders The HTTP headers
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rs> Rs get(
+        final String uriPath,
+        final HttpHeader[] httpHeaders,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.GET, uriPath, null, httpHeaders, null, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
     /**
      * Send POST request and receive response.
      * @param <Rq> The request type
@@ -686,6 +878,86 @@ public class RestClient extends RestClientConfig {
 
         return exchange(HttpMethod.POST, uriPath, null, httpHeaders, request, responseType, RestResponseExceptionMapper.class);
     }
+
+    /**
+     * Send POST request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs post(
+        final String uriPath,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.POST, uriPath, null, null, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send POST request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs post(
+        final String uriPath,
+        final Object[] uriParameters,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.POST, uriPath, uriParameters, null, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send POST request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs post(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.POST, uriPath, uriParameters, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send POST request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs post(
+        final String uriPath,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.POST, uriPath, null, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
 
     /**
      * Send PUT request and receive response.
@@ -933,6 +1205,86 @@ public class RestClient extends RestClientConfig {
         return exchange(HttpMethod.PUT, uriPath, null, httpHeaders, request, responseType, RestResponseExceptionMapper.class);
     }
 
+    /**
+     * Send PUT request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs put(
+        final String uriPath,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PUT, uriPath, null, null, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send PUT request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs put(
+        final String uriPath,
+        final Object[] uriParameters,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PUT, uriPath, uriParameters, null, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send PUT request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs put(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PUT, uriPath, uriParameters, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send PUT request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs put(
+        final String uriPath,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PUT, uriPath, null, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
     /**
      * Send PATCH request and receive response.
      * @param <Rq> The request type
@@ -1178,39 +1530,119 @@ public class RestClient extends RestClientConfig {
 
         return exchange(HttpMethod.PATCH, uriPath, null, httpHeaders, request, responseType, RestResponseExceptionMapper.class);
     }
-
+
     /**
-     * Send DELETE request.
-     * @param <Em> The exception mapper type
-     * @param uriParameters The URI parameters
-     * @param exceptionMapper The response exception mapper
+     * Send PATCH request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
      * @throws RemotingException if unable to send the request, or if an error response is received
      */
-    public <Em extends ResponseExceptionMapper> void delete(
-        final Object[] uriParameters,
-        final Class<Em> exceptionMapper) throws RemotingException {
+    public <Rq, Rs> Rs patch(
+        final String uriPath,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
 
-        exchange(HttpMethod.DELETE, "", uriParameters, null, null, null, exceptionMapper);
+        return exchange(HttpMethod.PATCH, uriPath, null, null, request, responseType.getType(), RestResponseExceptionMapper.class);
     }
-
+
     /**
-     * Send DELETE request.
-     * @param <Em> The exception mapper type
+     * Send PATCH request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
      * @param uriPath The URI path
      * @param uriParameters The URI parameters
-     * @param exceptionMapper The response exception mapper
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
      * @throws RemotingException if unable to send the request, or if an error response is received
      */
-    public <Em extends ResponseExceptionMapper> void delete(
+    public <Rq, Rs> Rs patch(
         final String uriPath,
         final Object[] uriParameters,
-        final Class<Em> exceptionMapper) throws RemotingException {
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
 
-        exchange(HttpMethod.DELETE, uriPath, uriParameters, null, null, null, exceptionMapper);
+        return exchange(HttpMethod.PATCH, uriPath, uriParameters, null, request, responseType.getType(), RestResponseExceptionMapper.class);
     }
-
+
     /**
-     * Send DELETE request.
+     * Send PATCH request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs patch(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PATCH, uriPath, uriParameters, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send PATCH request and receive response of generic type, such as {@code List<Rs>}.
+     * @param <Rq> The request type
+     * @param <Rs> The response type
+     * @param uriPath The URI path
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response type reference
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs patch(
+        final String uriPath,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final TypeReference<Rs> responseType) throws RemotingException {
+
+        return exchange(HttpMethod.PATCH, uriPath, null, httpHeaders, request, responseType.getType(), RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send DELETE request.
+     * @param <Em> The exception mapper type
+     * @param uriParameters The URI parameters
+     * @param exceptionMapper The response exception mapper
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Em extends ResponseExceptionMapper> void delete(
+        final Object[] uriParameters,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        exchange(HttpMethod.DELETE, "", uriParameters, null, null, null, exceptionMapper);
+    }
+
+    /**
+     * Send DELETE request.
+     * @param <Em> The exception mapper type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param exceptionMapper The response exception mapper
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Em extends ResponseExceptionMapper> void delete(
+        final String uriPath,
+        final Object[] uriParameters,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        exchange(HttpMethod.DELETE, uriPath, uriParameters, null, null, null, exceptionMapper);
+    }
+
+    /**
+     * Send DELETE request.
      * @param <Em> The exception mapper type
      * @param uriPath The URI path
      * @param uriParameters The URI parameters
@@ -1342,159 +1774,1140 @@ public class RestClient extends RestClientConfig {
     }
 
     /**
-     * Send request and receive response.
-     * @param method The HTTP method
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> ResponseIterator<T> getIterator(
+        final String uriPath,
+        final Class<T> elementType) throws RemotingException {
+
+        return exchangeStream(HttpMethod.GET, uriPath, null, null, null, null, elementType, RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> ResponseIterator<T> getIterator(
+        final String uriPath,
+        final Object[] uriParameters,
+        final Class<T> elementType) throws RemotingException {
+
+        return exchangeStream(HttpMethod.GET, uriPath, uriParameters, null, null, null, elementType, RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
      * @param uriPath The URI path
      * @param uriParameters The URI parameters
      * @param httpHeaders The HTTP headers
-     * @param request The request object
-     * @param responseType The response object type
-     * @param exceptionMapper The response exception mapper
-     * @return The response object
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
      * @throws RemotingException if unable to send the request, or if an error response is received
      */
-    private <Rq, Rs, Em extends ResponseExceptionMapper> Rs exchange(
-        final HttpMethod method,
+    public <T> ResponseIterator<T> getIterator(
         final String uriPath,
         final Object[] uriParameters,
         final HttpHeader[] httpHeaders,
-        final Rq request,
-        final Class<Rs> responseType,
-        final Class<Em> exceptionMapper) throws RemotingException {
-
-        String methodName = method.name().toLowerCase();
-        String payload;
-        TransactionContext transactionContext;
-        HttpHeaders httpHeaderMap;
-        HttpEntity<String> requestEntity;
-        Timer timer;
-        ResponseEntity<String> responseEntity;
-        long duration;
-        Rs response;
+        final Class<T> elementType) throws RemotingException {
 
-        initialize();
-
-        try {
+        return exchangeStream(HttpMethod.GET, uriPath, uriParameters, httpHeaders, null, null, elementType, RestResponseExceptionMapper.class);
+    }
 
-            payload = ((method == HttpMethod.GET) || (method == HttpMethod.DELETE)) ? null
-                : (request instanceof String) ? (String) request : objectMapper.writeValueAsString(request);
-        }
-        catch (Exception exception) {
-            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to serialize request: " + exception.getMessage(), exception);
-        }
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> Stream<T> getStream(
+        final String uriPath,
+        final Class<T> elementType) throws RemotingException {
 
-        if (payload != null) {
-            logger.debug(methodName, "request = ", payload);
-        }
+        return getIterator(uriPath, elementType).stream();
+    }
 
-        transactionContext = TransactionContext.get();
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> Stream<T> getStream(
+        final String uriPath,
+        final Object[] uriParameters,
+        final Class<T> elementType) throws RemotingException {
 
-        httpHeaderMap = new HttpHeaders();
-        httpHeaderMap.setContentType((payload == null) ? null : mediaType);
-        httpHeaderMap.setAccept(Collections.singletonList(mediaType));
-        if (transactionContext.getOriginId() != null)
-            httpHeaderMap.set("X-Origin-Id", transactionContext.getOriginId());
-        httpHeaderMap.set("X-Request-Id", transactionContext.getTransactionId());
-        if (transactionContext.getCorrelationId() != null)
-            httpHeaderMap.set("X-Correlation-Id", transactionContext.getCorrelationId());
+        return getIterator(uriPath, uriParameters, elementType).stream();
+    }
 
-        if (httpHeaders != null) {
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param elementName The local name of the repeated XML element, or null to use the root name of the element type
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> ResponseIterator<T> getIterator(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final String elementName,
+        final Class<T> elementType) throws RemotingException {
 
-            for (HttpHeader restHeader : httpHeaders) {
-                httpHeaderMap.set(restHeader.getName(), restHeader.getValue().toString());
-            }
-
-        }
+        return exchangeStream(HttpMethod.GET, uriPath, uriParameters, httpHeaders, null, elementName, elementType, RestResponseExceptionMapper.class);
+    }
 
-        if (basicAuth == true) {
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> Stream<T> getStream(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Class<T> elementType) throws RemotingException {
 
-            httpHeaderMap.setBasicAuth(getUsername(), getPassword());
-        }
+        return getIterator(uriPath, uriParameters, httpHeaders, elementType).stream();
+    }
 
-        if (bearerAuth == true) {
+    /**
+     * Send GET request and receive streaming response.
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param elementName The local name of the repeated XML element, or null to use the root name of the element type
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <T> Stream<T> getStream(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final String elementName,
+        final Class<T> elementType) throws RemotingException {
 
-            httpHeaderMap.setBearerAuth(getToken());
-        }
+        return getIterator(uriPath, uriParameters, httpHeaders, elementName, elementType).stream();
+    }
 
-        if (apiKeyAuth == true) {
+    /**
+     * Send POST request and receive streaming response.
+     * @param <Rq> The request type
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, T> ResponseIterator<T> postIterator(
+        final String uriPath,
+        final Rq request,
+        final Class<T> elementType) throws RemotingException {
 
-            httpHeaderMap.set("X-API-Key", getToken());
-        }
+        return exchangeStream(HttpMethod.POST, uriPath, null, null, request, null, elementType, RestResponseExceptionMapper.class);
+    }
 
-        if (proxyAuth == true) {
+    /**
+     * Send POST request and receive streaming response.
+     * @param <Rq> The request type
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, T> Stream<T> postStream(
+        final String uriPath,
+        final Rq request,
+        final Class<T> elementType) throws RemotingException {
 
-            httpHeaderMap.set(HttpHeaders.PROXY_AUTHORIZATION, "Basic " + Base64.getEncoder().encodeToString(
-                (getProxyUsername() + ":" + getProxyPassword()).getBytes(StandardCharsets.UTF_8)));
-        }
+        return postIterator(uriPath, request, elementType).stream();
+    }
 
-        requestEntity = new HttpEntity<>(payload, httpHeaderMap);
+    /**
+     * Send POST request and receive streaming response.
+     * @param <Rq> The request type
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param elementName The local name of the repeated XML element, or null to use the root name of the element type
+     * @param elementType The element object type
+     * @return The iterator over the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, T> ResponseIterator<T> postIterator(
+        final String uriPath,
+        final Rq request,
+        final String elementName,
+        final Class<T> elementType) throws RemotingException {
 
-        timer = Timer.ofNanos().start();
-
-        try {
+        return exchangeStream(HttpMethod.POST, uriPath, null, null, request, elementName, elementType, RestResponseExceptionMapper.class);
+    }
 
-            if (uriParameters != null) {
+    /**
+     * Send POST request and receive streaming response.
+     * @param <Rq> The request type
+     * @param <T> The element type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param elementName The local name of the repeated XML element, or null to use the root name of the element type
+     * @param elementType The element object type
+     * @return The stream of the elements of the response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, T> Stream<T> postStream(
+        final String uriPath,
+        final Rq request,
+        final String elementName,
+        final Class<T> elementType) throws RemotingException {
 
-                responseEntity = restTemplate.exchange(getUrl() + uriPath, method, requestEntity, String.class, uriParameters);
-            }
-            else {
+        return postIterator(uriPath, request, elementName, elementType).stream();
+    }
 
-                responseEntity = restTemplate.exchange(getUrl() + uriPath, method, requestEntity, String.class);
-            }
+    /**
+     * Send GET request and receive projected response.
+     * @param uriPath The URI path
+     * @param projection The projection
+     * @return The tree of projected values
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public JsonNode getProjection(
+        final String uriPath,
+        final JsonProjection projection) throws RemotingException {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+        return exchangeProjection(HttpMethod.GET, uriPath, null, null, null, projection, RestResponseExceptionMapper.class);
+    }
 
-            logger.debug(methodName, "Request sent successfully.  HTTP status = ", getStatusDescriptor(responseEntity.getStatusCodeValue(), responseEntity.getStatusCode().getReasonPhrase()), ".  Duration = ", duration, " ms.");
+    /**
+     * Send GET request and receive projected response.
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param projection The projection
+     * @return The tree of projected values
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public JsonNode getProjection(
+        final String uriPath,
+        final Object[] uriParameters,
+        final JsonProjection projection) throws RemotingException {
 
-            payload = responseEntity.getBody();
+        return exchangeProjection(HttpMethod.GET, uriPath, uriParameters, null, null, projection, RestResponseExceptionMapper.class);
+    }
 
-            if (StringUtils.hasLength(payload) == true) {
-                logger.debug(methodName, "response = ", payload);
-            }
-
-        }
-        catch (RestClientResponseException exception) {
+    /**
+     * Send GET request and receive projected response.
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param projection The projection
+     * @return The tree of projected values
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public JsonNode getProjection(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final JsonProjection projection) throws RemotingException {
 
-            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+        return exchangeProjection(HttpMethod.GET, uriPath, uriParameters, httpHeaders, null, projection, RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send GET request and receive projected response, which is bound to a view class.
+     * @param <Rs> The view type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param projection The projection
+     * @param viewType The view object type, which declares only the projected properties
+     * @return The view object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rs> Rs getProjection(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final JsonProjection projection,
+        final Class<Rs> viewType) throws RemotingException {
+
+        return bindProjection(exchangeProjection(HttpMethod.GET, uriPath, uriParameters, httpHeaders, null, projection,
+            RestResponseExceptionMapper.class), viewType);
+    }
+
+    /**
+     * Send POST request and receive projected response.
+     * @param <Rq> The request type
+     * @param uriPath The URI path
+     * @param request The request object
+     * @param projection The projection
+     * @return The tree of projected values
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq> JsonNode postProjection(
+        final String uriPath,
+        final Rq request,
+        final JsonProjection projection) throws RemotingException {
+
+        return exchangeProjection(HttpMethod.POST, uriPath, null, null, request, projection, RestResponseExceptionMapper.class);
+    }
+
+    /**
+     * Send POST request and receive projected response, which is bound to a view class.
+     * @param <Rq> The request type
+     * @param <Rs> The view type
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param projection The projection
+     * @param viewType The view object type, which declares only the projected properties
+     * @return The view object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    public <Rq, Rs> Rs postProjection(
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final JsonProjection projection,
+        final Class<Rs> viewType) throws RemotingException {
+
+        return bindProjection(exchangeProjection(HttpMethod.POST, uriPath, uriParameters, httpHeaders, request, projection,
+            RestResponseExceptionMapper.class), viewType);
+    }
+
+    /**
+     * Send request and receive response.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response object type
+     * @param exceptionMapper The response exception mapper
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    @SuppressWarnings("unchecked")
+    private <Rq, Rs, Em extends ResponseExceptionMapper> Rs exchange(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final Type responseType,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        String methodName = method.name().toLowerCase();
+        String payload;
+        HttpHeaders httpHeaderMap;
+        HttpEntity<String> requestEntity;
+        Timer timer;
+        ResponseEntity<String> responseEntity;
+        long duration;
+        Rs response;
+
+        initialize();
+
+        if (isStreamBound(responseType) == true) {
+            return exchangeBound(method, uriPath, uriParameters, httpHeaders, request, responseType, exceptionMapper);
+        }
+
+        if ((binary == true) || (isDirectTransport() == true)) {
+            return exchangeDirect(method, uriPath, uriParameters, httpHeaders, request, responseType, exceptionMapper);
+        }
+
+        try {
+
+            payload = ((method == HttpMethod.GET) || (method == HttpMethod.DELETE)) ? null
+                : (request instanceof String) ? (String) request : getWriter(request).writeValueAsString(request);
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to serialize request: " + exception.getMessage(), exception);
+        }
+
+        if (payload != null) {
+            payloadLogger.log(methodName, "request = ", uriPath, payload);
+        }
+
+        httpHeaderMap = getHttpHeaders(payload, httpHeaders);
+
+        requestEntity = new HttpEntity<>(payload, httpHeaderMap);
+
+        timer = Timer.ofNanos().start();
+
+        try {
+
+            responseEntity = restTemplate.exchange(getUri(uriPath, uriParameters), method, requestEntity, String.class);
+
+            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+
+            logger.debug(methodName, "Request sent successfully.  HTTP status = ", getStatusDescriptor(responseEntity.getStatusCodeValue(), responseEntity.getStatusCode().getReasonPhrase()), ".  Duration = ", duration, " ms.");
+
+            payload = responseEntity.getBody();
+
+            if (StringUtils.hasLength(payload) == true) {
+                payloadLogger.log(methodName, "response = ", uriPath, payload);
+            }
+
+        }
+        catch (RestClientResponseException exception) {
+
+            duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
 
             logger.debug(methodName, "Request send failed.  HTTP status = ", getStatusDescriptor(exception.getRawStatusCode(), exception.getStatusText()), ".  Duration = ", duration, " ms.");
 
-            payload = exception.getResponseBodyAsString();
+            payload = exception.getResponseBodyAsString();
+
+            if (StringUtils.hasLength(payload) == true) {
+                payloadLogger.log(methodName, "response = ", uriPath, payload);
+            }
+
+            handleException(getExceptionMapper(exceptionMapper, payload), exception);
+        }
+        catch (Exception exception) {
+            throw createException(ExceptionType.REMOTING_COMMUNICATION, "Failed to send request: " + exception.getMessage(), exception);
+        }
+
+        try {
+
+            response = (payload == null) ? null : (responseType == String.class) ? (Rs) payload
+                : getReader(responseType).readValue(payload);
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+        }
+
+        if (response instanceof ResponseExceptionMapper) {
+
+            handleException((ResponseExceptionMapper) response, null);
+        }
+
+        if (response instanceof RawAwarePayload) {
+
+            ((RawAwarePayload) response).setRaw(payload);
+        }
+
+        return response;
+    }
+
+    /**
+     * Send request and receive response directly with the HTTP client, bypassing the message
+     * converters of the {@code RestTemplate}.  The request and response bodies are written and
+     * read with the object mapper of the client, and bodies in a text format are encoded and
+     * decoded with the same character sets as the {@code RestTemplate} would use.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response object type
+     * @param exceptionMapper The response exception mapper
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    @SuppressWarnings("unchecked")
+    private <Rq, Rs, Em extends ResponseExceptionMapper> Rs exchangeDirect(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final Type responseType,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        String methodName = method.name().toLowerCase();
+        CloseableHttpResponse httpResponse;
+        byte[] body;
+        String payload = null;
+        Rs response;
+
+        httpResponse = send(method, uriPath, uriParameters, httpHeaders, request, accept, exceptionMapper);
+
+        try {
+
+            body = (httpResponse.getEntity() == null) ? null : EntityUtils.toByteArray(httpResponse.getEntity());
+
+            if ((binary == false) && (body != null) && (body.length > 0)) {
+                payload = new String(body, getCharset(httpResponse.getEntity().getContentType()));
+
+                payloadLogger.log(methodName, "response = ", uriPath, payload);
+            }
+
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.REMOTING_COMMUNICATION, "Failed to read response: " + exception.getMessage(), exception);
+        }
+        finally {
+            ExceptionUtil.swallow(() -> {httpResponse.close(); return null;}, null);
+        }
+
+        try {
+
+            response = ((body == null) || (body.length == 0) || (responseType == null)) ? null
+                : (binary == true) ? getReader(responseType).readValue(body)
+                : (responseType == String.class) ? (Rs) payload : getReader(responseType).readValue(payload);
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+        }
+
+        if (response instanceof ResponseExceptionMapper) {
+
+            handleException((ResponseExceptionMapper) response, null);
+        }
+
+        if ((response instanceof RawAwarePayload) && (payload != null)) {
+
+            ((RawAwarePayload) response).setRaw(payload);
+        }
+
+        return response;
+    }
+
+    /**
+     * Send request and bind response directly from the content stream of the HTTP response,
+     * in a single parse, without first reading the response into a {@code String}.  The
+     * response is only read into memory when its payload is selected to be logged.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param responseType The response object type
+     * @param exceptionMapper The response exception mapper
+     * @return The response object
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    private <Rq, Rs, Em extends ResponseExceptionMapper> Rs exchangeBound(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final Type responseType,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        String methodName = method.name().toLowerCase();
+        CloseableHttpResponse httpResponse;
+        Charset responseCharset;
+        byte[] body;
+        Rs response;
+
+        httpResponse = send(method, uriPath, uriParameters, httpHeaders, request, accept, exceptionMapper);
+
+        try {
+
+            responseCharset = (httpResponse.getEntity() == null) ? StandardCharsets.UTF_8 : getCharset(httpResponse.getEntity().getContentType());
+
+            if ((binary == false) && (payloadLogger.isLogged(uriPath) == true)) {
+                body = (httpResponse.getEntity() == null) ? new byte[0] : EntityUtils.toByteArray(httpResponse.getEntity());
+
+                if (body.length > 0) {
+                    payloadLogger.write(methodName, "response = ", new String(body, responseCharset));
+                }
+
+                response = readResponse(responseType, new ByteArrayInputStream(body), responseCharset);
+            }
+            else {
+
+                response = readResponse(responseType, getContent(httpResponse), responseCharset);
+            }
+
+            EntityUtils.consume(httpResponse.getEntity());
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+        }
+        finally {
+            ExceptionUtil.swallow(() -> {httpResponse.close(); return null;}, null);
+        }
+
+        if (response instanceof ResponseExceptionMapper) {
+
+            handleException((ResponseExceptionMapper) response, null);
+        }
+
+        return response;
+    }
+
+    /**
+     * Read response from content stream.  Text in a character set other than UTF-8 is decoded
+     * while it is parsed, with the same character set as the {@code StringHttpMessageConverter}.
+     * @param responseType The response object type
+     * @param content The content stream
+     * @param responseCharset The character set of a text response
+     * @return The response object, or null if the response is empty
+     * @throws IOException if unable to read the response
+     */
+    private <Rs> Rs readResponse(
+        final Type responseType,
+        final InputStream content,
+        final Charset responseCharset) throws IOException {
+
+        ObjectReader objectReader;
+
+        objectReader = getReader(responseType);
+
+        try (JsonParser parser = ((binary == true) || (StandardCharsets.UTF_8.equals(responseCharset) == true))
+            ? objectReader.getFactory().createParser(content)
+            : objectReader.getFactory().createParser(new InputStreamReader(content, responseCharset))) {
+
+            return (parser.nextToken() == null) ? null : objectReader.readValue(parser);
+        }
+
+    }
+
+    /**
+     * Check whether response of type is bound directly from the content stream of the HTTP
+     * response.  Generic types, such as collections, are bound from the stream, unless the
+     * response must receive its raw payload.
+     * @param responseType The response object type
+     * @return true if the response is bound from the content stream, false otherwise
+     */
+    private boolean isStreamBound(
+        final Type responseType) {
+
+        return (responseType != null) && ((responseType instanceof Class) == false)
+            && (RawAwarePayload.class.isAssignableFrom(objectMapper.constructType(responseType).getRawClass()) == false);
+    }
+
+    /**
+     * Send request and receive streaming response.  A JSON response is a top-level array or
+     * newline delimited JSON, while the elements of an XML response are the occurrences of
+     * a repeated element anywhere in the document.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param elementName The local name of the repeated XML element, or null to use the root name of the element type
+     * @param elementType The element object type
+     * @param exceptionMapper The response exception mapper
+     * @return The iterator over the elements of the response
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    private <Rq, T, Em extends ResponseExceptionMapper> ResponseIterator<T> exchangeStream(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final String elementName,
+        final Class<T> elementType,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        CloseableHttpResponse httpResponse;
+        ElementReader<T> elementReader;
+
+        initialize();
+
+        httpResponse = send(method, uriPath, uriParameters, httpHeaders, request, streamAccept, exceptionMapper);
+
+        try {
+
+            elementReader = (objectMapper instanceof XmlMapper)
+                ? new XmlElementReader<T>(getReader(elementType), ((XmlMapper) objectMapper).getFactory(),
+                    (elementName == null) ? getRootName(elementType) : elementName, getContent(httpResponse))
+                : new JsonElementReader<T>(getReader(elementType), getContent(httpResponse));
+
+            return new ResponseIterator<T>(httpResponse, elementReader);
+        }
+        catch (Exception exception) {
+            ExceptionUtil.swallow(() -> {httpResponse.close(); return null;}, null);
+
+            throw new RemotingException(ExceptionType.REMOTING_COMMUNICATION, "Failed to read response: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Send request and receive projected response.  Only the values which are addressed by
+     * the projection are read from the response, and the rest of the response is drained
+     * without being parsed once all of them have been found, so that the connection may
+     * be reused.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param projection The projection
+     * @param exceptionMapper The response exception mapper
+     * @return The tree of projected values
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    private <Rq, Em extends ResponseExceptionMapper> JsonNode exchangeProjection(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final JsonProjection projection,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        CloseableHttpResponse httpResponse;
+        JsonNode node;
+
+        initialize();
+
+        if (objectMapper instanceof XmlMapper) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Projections are not supported for XML.");
+        }
+
+        httpResponse = send(method, uriPath, uriParameters, httpHeaders, request, accept, exceptionMapper);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(getContent(httpResponse))) {
+
+            node = projection.read(objectMapper, parser);
+
+            EntityUtils.consume(httpResponse.getEntity());
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.REMOTING_COMMUNICATION, "Failed to read response: " + exception.getMessage(), exception);
+        }
+        finally {
+            ExceptionUtil.swallow(() -> {httpResponse.close(); return null;}, null);
+        }
+
+        return node;
+    }
+
+    /**
+     * Bind tree of projected values to view class.
+     * @param node The tree of projected values
+     * @param viewType The view object type
+     * @return The view object, or null if none of the projected values were found
+     * @throws RemotingException if unable to bind the projected values
+     */
+    private <Rs> Rs bindProjection(
+        final JsonNode node,
+        final Class<Rs> viewType) throws RemotingException {
+
+        try {
 
-            if (StringUtils.hasLength(payload) == true) {
-                logger.debug(methodName, "response = ", payload);
+            return (node.isMissingNode() == true) ? null : getReader(viewType).readValue(node);
+        }
+        catch (Exception exception) {
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Get root name of element type, which is the local name of the element in an XML document.
+     * @param elementType The element object type
+     * @return The root name
+     */
+    private String getRootName(
+        final Class<?> elementType) {
+
+        PropertyName rootName;
+
+        rootName = objectMapper.getSerializationConfig().findRootName(elementType);
+
+        return ((rootName == null) || (rootName.hasSimpleName() == false)) ? elementType.getSimpleName() : rootName.getSimpleName();
+    }
+
+    /**
+     * Send request directly with the HTTP client, and leave the response open so that
+     * its content may be read as a stream.
+     * @param method The HTTP method
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @param httpHeaders The HTTP headers
+     * @param request The request object
+     * @param acceptHeader The value of the Accept header
+     * @param exceptionMapper The response exception mapper
+     * @return The HTTP response, which must be closed
+     * @throws RemotingException if unable to send the request, or if an error response is received
+     */
+    private <Rq, Em extends ResponseExceptionMapper> CloseableHttpResponse send(
+        final HttpMethod method,
+        final String uriPath,
+        final Object[] uriParameters,
+        final HttpHeader[] httpHeaders,
+        final Rq request,
+        final String acceptHeader,
+        final Class<Em> exceptionMapper) throws RemotingException {
+
+        String methodName = method.name().toLowerCase();
+        String payload = null;
+        byte[] body;
+        RequestBuilder requestBuilder;
+        Timer timer;
+        CloseableHttpResponse httpResponse;
+        StatusLine statusLine;
+        long duration;
+
+        try {
+
+            if ((method == HttpMethod.GET) || (method == HttpMethod.DELETE)) {
+
+                body = null;
+            }
+            else if (binary == true) {
+
+                body = getWriter(request).writeValueAsBytes(request);
+            }
+            else {
+
+                payload = (request instanceof String) ? (String) request : getWriter(request).writeValueAsString(request);
+                body = payload.getBytes(charset);
             }
 
-            handleException(getExceptionMapper(exceptionMapper, payload), exception);
         }
         catch (Exception exception) {
-            throw new RemotingException(ExceptionType.REMOTING_COMMUNICATION, "Failed to send request: " + exception.getMessage(), exception);
+            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to serialize request: " + exception.getMessage(), exception);
         }
-
+
+        if (payload != null) {
+            payloadLogger.log(methodName, "request = ", uriPath, payload);
+        }
+
+        requestBuilder = RequestBuilder.create(method.name())
+            .setUri(getUri(uriPath, uriParameters));
+
+        addHeaders(requestBuilder, body, acceptHeader, httpHeaders);
+
+        if (body != null) {
+            requestBuilder.setEntity(new ByteArrayEntity(body));
+        }
+
+        timer = Timer.ofNanos().start();
+
         try {
 
-            response = (payload == null) ? null : (responseType == String.class) ? responseType.cast(payload)
-                : objectMapper.readValue(payload, responseType);
+            httpResponse = httpClient.execute(requestBuilder.build());
         }
         catch (Exception exception) {
-            throw new RemotingException(ExceptionType.LOCAL_APPLICATION, "Failed to deserialize response: " + exception.getMessage(), exception);
+            throw createException(ExceptionType.REMOTING_COMMUNICATION, "Failed to send request: " + exception.getMessage(), exception);
         }
 
-        if (response instanceof ResponseExceptionMapper) {
+        duration = timer.elapsedTime(TimeUnit.MILLISECONDS);
+        statusLine = httpResponse.getStatusLine();
 
-            handleException((ResponseExceptionMapper) response, null);
+        if (statusLine.getStatusCode() < 400) {
+            logger.debug(methodName, "Request sent successfully.  HTTP status = ", getStatusDescriptor(statusLine.getStatusCode(), statusLine.getReasonPhrase()), ".  Duration = ", duration, " ms.");
+
+            return httpResponse;
         }
 
-        if (response instanceof RawAwarePayload) {
+        logger.debug(methodName, "Request send failed.  HTTP status = ", getStatusDescriptor(statusLine.getStatusCode(), statusLine.getReasonPhrase()), ".  Duration = ", duration, " ms.");
 
-            ((RawAwarePayload) response).setRaw(payload);
+        try {
+
+            body = (httpResponse.getEntity() == null) ? null : EntityUtils.toByteArray(httpResponse.getEntity());
         }
-
-        return response;
+        catch (Exception exception) {
+
+            body = null;
+        }
+        finally {
+            ExceptionUtil.swallow(() -> {httpResponse.close(); return null;}, null);
+        }
+
+        if ((binary == false) && (body != null) && (body.length > 0)) {
+            payloadLogger.log(methodName, "response = ", uriPath, body);
+        }
+
+        handleException(getExceptionMapper(exceptionMapper, body), new RestClientResponseException(
+            getStatusDescriptor(statusLine.getStatusCode(), statusLine.getReasonPhrase()), statusLine.getStatusCode(), statusLine.getReasonPhrase(),
+            null, body, StandardCharsets.UTF_8));
+
+        return null;
     }
-
+
     /**
-     * Generate exception mapper from response payload.
+     * Get URI of request.  The URI template of each URI path is compiled once and cached,
+     * so that the URL and the URI path are only parsed the first time that the URI path is
+     * used.  The cache is cleared when it is full.
+     * @param uriPath The URI path
+     * @param uriParameters The URI parameters
+     * @return The URI
+     */
+    private URI getUri(
+        final String uriPath,
+        final Object[] uriParameters) {
+
+        CompiledUriTemplate uriTemplate;
+
+        uriTemplate = uriTemplates.get(uriPath);
+
+        if (uriTemplate == null) {
+
+            if (uriTemplates.size() >= URI_TEMPLATE_CACHE_SIZE) {
+                uriTemplates.clear();
+            }
+
+            uriTemplate = uriTemplates.computeIfAbsent(uriPath, key -> CompiledUriTemplate.compile(getUrl() + key));
+        }
+
+        return uriTemplate.expand((uriParameters == null) ? NO_PARAMETERS : uriParameters);
+    }
+
+    /**
+     * Get character set of text body from content type header, in the same way as the
+     * {@code StringHttpMessageConverter} of the {@code RestTemplate}.
+     * @param contentType The content type header
+     * @return The character set
+     */
+    private Charset getCharset(
+        final Header contentType) {
+
+        MediaType mediaType;
+
+        try {
+
+            mediaType = (contentType == null) ? null : MediaType.parseMediaType(contentType.getValue());
+        }
+        catch (Exception exception) {
+
+            mediaType = null;
+        }
+
+        return getCharset(mediaType);
+    }
+
+    /**
+     * Get character set of text body with media type, in the same way as the
+     * {@code StringHttpMessageConverter} of the {@code RestTemplate}.
+     * @param mediaType The media type
+     * @return The character set
+     */
+    private Charset getCharset(
+        final MediaType mediaType) {
+
+        if (mediaType == null) {
+            return StringHttpMessageConverter.DEFAULT_CHARSET;
+        }
+
+        if (mediaType.getCharset() != null) {
+            return mediaType.getCharset();
+        }
+
+        return ((mediaType.isCompatibleWith(MediaType.APPLICATION_JSON) == true) || (mediaType.getSubtype().endsWith("+json") == true))
+            ? StandardCharsets.UTF_8 : StringHttpMessageConverter.DEFAULT_CHARSET;
+    }
+
+    /**
+     * Get content of HTTP response.
+     * @param httpResponse The HTTP response
+     * @return The content stream, which is empty if the response has no content
+     * @throws IOException if unable to get the content stream
+     */
+    private InputStream getContent(
+        final CloseableHttpResponse httpResponse) throws IOException {
+
+        return (httpResponse.getEntity() == null) ? new ByteArrayInputStream(new byte[0]) : httpResponse.getEntity().getContent();
+    }
+
+    /**
+     * Get object reader for type, which may be a class or a generic type.  The object readers
+     * are cached, so that the type is only resolved to a {@code JavaType}, and its root
+     * deserializer only located, the first time that it is read.
+     * @param type The type
+     * @return The object reader
+     */
+    private ObjectReader getReader(
+        final Type type) {
+
+        ObjectReader objectReader;
+
+        objectReader = readers.get(type);
+
+        if (objectReader == null) {
+            objectReader = readers.computeIfAbsent(type, key -> objectMapper.readerFor(objectMapper.constructType(key)));
+        }
+
+        return objectReader;
+    }
+
+    /**
+     * Get object writer for request.  The object writers are cached by the class of the request,
+     * so that the class is only resolved, and its root serializer only located, the first time
+     * that it is written.
+     * @param request The request object
+     * @return The object writer
+     */
+    private ObjectWriter getWriter(
+        final Object request) {
+
+        return (request == null) ? objectMapper.writer() : getWriter(request.getClass());
+    }
+
+    /**
+     * Get object writer for type.
+     * @param type The type
+     * @return The object writer
+     */
+    private ObjectWriter getWriter(
+        final Class<?> type) {
+
+        ObjectWriter objectWriter;
+
+        objectWriter = writers.get(type);
+
+        if (objectWriter == null) {
+            objectWriter = writers.computeIfAbsent(type, key -> objectMapper.writerFor(key));
+        }
+
+        return objectWriter;
+    }
+
+    /**
+     * Get HTTP headers for request.
+     * @param payload The request payload
+     * @param httpHeaders The HTTP headers
+     * @return The HTTP headers
+     */
+    private HttpHeaders getHttpHeaders(
+        final Object payload,
+        final HttpHeader[] httpHeaders) {
+
+        TransactionContext transactionContext;
+        HttpHeaders httpHeaderMap;
+
+        transactionContext = TransactionContext.get();
+
+        httpHeaderMap = new HttpHeaders();
+
+        if (payload != null) {
+            httpHeaderMap.set(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+
+        httpHeaderMap.set(HttpHeaders.ACCEPT, accept);
+        if (transactionContext.getOriginId() != null)
+            httpHeaderMap.set("X-Origin-Id", transactionContext.getOriginId());
+        httpHeaderMap.set("X-Request-Id", transactionContext.getTransactionId());
+        if (transactionContext.getCorrelationId() != null)
+            httpHeaderMap.set("X-Correlation-Id", transactionContext.getCorrelationId());
+
+        if (httpHeaders != null) {
+
+            for (HttpHeader restHeader : httpHeaders) {
+                httpHeaderMap.set(restHeader.getName(), restHeader.getValue().toString());
+            }
+
+        }
+
+        for (Header header : staticHeaders) {
+            httpHeaderMap.set(header.getName(), header.getValue());
+        }
+
+        return httpHeaderMap;
+    }
+
+    /**
+     * Add HTTP headers directly to request, without collecting them in a map first.  The
+     * headers are added in the same order of precedence as by {@code getHttpHeaders}.
+     * @param requestBuilder The request builder
+     * @param body The request body
+     * @param acceptHeader The value of the Accept header
+     * @param httpHeaders The HTTP headers
+     */
+    private void addHeaders(
+        final RequestBuilder requestBuilder,
+        final byte[] body,
+        final String acceptHeader,
+        final HttpHeader[] httpHeaders) {
+
+        TransactionContext transactionContext;
+
+        transactionContext = TransactionContext.get();
+
+        if (body != null) {
+            requestBuilder.addHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+
+        requestBuilder.addHeader(HttpHeaders.ACCEPT, acceptHeader);
+        if (transactionContext.getOriginId() != null)
+            requestBuilder.addHeader("X-Origin-Id", transactionContext.getOriginId());
+        requestBuilder.addHeader("X-Request-Id", transactionContext.getTransactionId());
+        if (transactionContext.getCorrelationId() != null)
+            requestBuilder.addHeader("X-Correlation-Id", transactionContext.getCorrelationId());
+
+        if (httpHeaders != null) {
+
+            for (HttpHeader restHeader : httpHeaders) {
+                requestBuilder.setHeader(restHeader.getName(), restHeader.getValue().toString());
+            }
+
+        }
+
+        for (Header header : staticHeaders) {
+            requestBuilder.setHeader(header);
+        }
+
+    }
+
+    /**
+     * Get the HTTP headers which are the same for every request, which are the authentication
+     * headers.  The headers are encoded once, when the client is initialized.
+     * @return The static HTTP headers
+     */
+    private Header[] getStaticHeaders() {
+
+        List<Header> headers;
+
+        headers = new ArrayList<Header>();
+
+        if (basicAuth == true) {
+
+            headers.add(new BasicHeader(HttpHeaders.AUTHORIZATION, "Basic " + HttpHeaders.encodeBasicAuth(getUsername(), getPassword(), null)));
+        }
+
+        if (bearerAuth == true) {
+
+            headers.add(new BasicHeader(HttpHeaders.AUTHORIZATION, "Bearer " + getToken()));
+        }
+
+        if (apiKeyAuth == true) {
+
+            headers.add(new BasicHeader("X-API-Key", getToken()));
+        }
+
+        if (proxyAuth == true) {
+
+            headers.add(new BasicHeader(HttpHeaders.PROXY_AUTHORIZATION, "Basic " + Base64.getEncoder().encodeToString(
+                (getProxyUsername() + ":" + getProxyPassword()).getBytes(StandardCharsets.UTF_8))));
+        }
+
+        return headers.toArray(new Header[headers.size()]);
+    }
+
+    /**
+     * Generate exception mapper from response payload.  The standard exception mapper is
+     * read in a single pass over the payload, while other exception mappers are bound with
+     * their cached object readers.
      * @param exceptionMapper The exception mapper class
      * @param payload The response payload
      * @return The exception mapper
@@ -1504,9 +2917,43 @@ public class RestClient extends RestClientConfig {
         final Class<Em> exceptionMapper,
         final String payload) throws RemotingException {
 
-        return ExceptionUtil.swallow(() -> (StringUtils.hasLength(payload) == false) ? null : objectMapper.readValue(payload, exceptionMapper), null);
+        return ExceptionUtil.swallow(() -> (StringUtils.hasLength(payload) == false) ? null
+            : (exceptionMapper == RestResponseExceptionMapper.class) ? exceptionMapper.cast(readExceptionMapper(objectMapper.getFactory().createParser(payload)))
+            : getReader(exceptionMapper).<Em>readValue(payload), null);
     }
 
+    /**
+     * Generate exception mapper from response payload.
+     * @param exceptionMapper The exception mapper class
+     * @param payload The response payload
+     * @return The exception mapper
+     * @throws RemotingException if unable to parse the response payload
+     */
+    private <Em extends ResponseExceptionMapper> Em getExceptionMapper(
+        final Class<Em> exceptionMapper,
+        final byte[] payload) throws RemotingException {
+
+        return ExceptionUtil.swallow(() -> ((payload == null) || (payload.length == 0)) ? null
+            : (exceptionMapper == RestResponseExceptionMapper.class) ? exceptionMapper.cast(readExceptionMapper(objectMapper.getFactory().createParser(payload)))
+            : getReader(exceptionMapper).<Em>readValue(payload), null);
+    }
+
+    /**
+     * Read standard exception mapper from parser, and close the parser.
+     * @param parser The parser
+     * @return The exception mapper
+     * @throws IOException if unable to read the payload
+     */
+    private RestResponseExceptionMapper readExceptionMapper(
+        final JsonParser parser) throws IOException {
+
+        try (JsonParser payloadParser = parser) {
+
+            return RestResponseExceptionMapper.read(payloadParser);
+        }
+
+    }
+
     /**
      * Generate and raise exception.
      * @param exceptionMapper The exception mapper
@@ -1527,18 +2974,50 @@ public class RestClient extends RestClientConfig {
 
         if (exceptionMessage != null) {
 
-            throw new RemotingException(ObjectUtil.coalesce(exceptionType, ExceptionType.REMOTING_APPLICATION),
+            throw createException(ObjectUtil.coalesce(exceptionType, ExceptionType.REMOTING_APPLICATION),
                 ObjectUtil.coalesce(exceptionCode, ""), exceptionMessage);
         }
 
         else if (exception != null) {
 
-            throw new RemotingException(RestResponseExceptionMapper.getExceptionType(exception.getRawStatusCode()),
+            throw createException(RestResponseExceptionMapper.getExceptionType(exception.getRawStatusCode()),
                 String.valueOf(exception.getRawStatusCode()),
                 getStatusDescriptor(exception.getRawStatusCode(), exception.getStatusText()));
         }
 
     }
+
+    /**
+     * Create remoting exception, which does not capture a stack trace if so configured.
+     * @param exceptionType The exception type
+     * @param exceptionCode The exception code
+     * @param exceptionMessage The exception message
+     * @return The remoting exception
+     */
+    private RemotingException createException(
+        final ExceptionType exceptionType,
+        final String exceptionCode,
+        final String exceptionMessage) {
+
+        return (isStacklessExceptions() == true) ? new StacklessRemotingException(exceptionType, exceptionCode, exceptionMessage)
+            : new RemotingException(exceptionType, exceptionCode, exceptionMessage);
+    }
+
+    /**
+     * Create remoting exception, which does not capture a stack trace if so configured.
+     * @param exceptionType The exception type
+     * @param exceptionMessage The exception message
+     * @param cause The cause
+     * @return The remoting exception
+     */
+    private RemotingException createException(
+        final ExceptionType exceptionType,
+        final String exceptionMessage,
+        final Throwable cause) {
+
+        return (isStacklessExceptions() == true) ? new StacklessRemotingException(exceptionType, exceptionMessage, cause)
+            : new RemotingException(exceptionType, exceptionMessage, cause);
+    }
 
     /**
      * Get HTTP status descriptor by combining status code and status text.
@@ -30,6 +30,8 @@ public class RestClientBuilder {
 
     private SSLContext sslContext;
 
+    private Class<?>[] warmUpTypes = new Class<?>[0];
+
     /**
      * Constructor.
      */
@@ -53,7 +55,7 @@ public class RestClientBuilder {
      */
     public RestClient build() {
 
-        return new RestClient(mediaType, basicAuth, bearerAuth, apiKeyAuth, ssl, sslContext);
+        return new RestClient(mediaType, basicAuth, bearerAuth, apiKeyAuth, ssl, sslContext, warmUpTypes);
     }
 
     /**
@@ -126,4 +128,18 @@ public class RestClientBuilder {
         return this;
     }
 
+    /**
+     * Set types for which the readers and writers are resolved when the client is initialized,
+     * so that the first requests do not pay for introspecting them.
+     * @param warmUpTypes The request and response types
+     * @return The REST client builder
+     */
+    public RestClientBuilder warmUp(
+        final Class<?>... warmUpTypes) {
+
+        this.warmUpTypes = warmUpTypes;
+
+        return this;
+    }
+
 }
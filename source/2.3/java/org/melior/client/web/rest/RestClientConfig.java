@@ -7,6 +7,8 @@
         Service Harness
 */
 package org.melior.client.web.rest;
+import java.util.ArrayList;
+import java.util.List;
 import org.melior.client.core.ClientConfig;
 
 /**
@@ -24,6 +26,30 @@ public class RestClientConfig extends ClientConfig {
 
     private String proxyPassword;
 
+    private boolean compression = true;
+
+    private int compressionLevel = 6;
+
+    private int requestCompressionThreshold = 0;
+
+    private boolean optimizeMapper = false;
+
+    private boolean directTransport = false;
+
+    private boolean stacklessExceptions = false;
+
+    private boolean payloadLogging = true;
+
+    private double payloadSampleRate = 1.0;
+
+    private List<String> payloadPaths = new ArrayList<>();
+
+    private int payloadMaxLength = 4096;
+
+    private List<String> payloadRedactFields = new ArrayList<>();
+
+    private boolean payloadAsync = false;
+
     /**
      * Constructor.
      */
@@ -44,6 +70,18 @@ public class RestClientConfig extends ClientConfig {
         this.proxyUrl = clientConfig.proxyUrl;
         this.proxyUsername = clientConfig.proxyUsername;
         this.proxyPassword = clientConfig.proxyPassword;
+        this.compression = clientConfig.compression;
+        this.compressionLevel = clientConfig.compressionLevel;
+        this.requestCompressionThreshold = clientConfig.requestCompressionThreshold;
+        this.optimizeMapper = clientConfig.optimizeMapper;
+        this.directTransport = clientConfig.directTransport;
+        this.stacklessExceptions = clientConfig.stacklessExceptions;
+        this.payloadLogging = clientConfig.payloadLogging;
+        this.payloadSampleRate = clientConfig.payloadSampleRate;
+        this.payloadPaths = clientConfig.payloadPaths;
+        this.payloadMaxLength = clientConfig.payloadMaxLength;
+        this.payloadRedactFields = clientConfig.payloadRedactFields;
+        this.payloadAsync = clientConfig.payloadAsync;
 
         return this;
     }
@@ -116,4 +154,208 @@ public class RestClientConfig extends ClientConfig {
         this.proxyPassword = proxyPassword;
     }
 
+    /**
+     * Get compression indicator.
+     * @return true if responses may be compressed, false otherwise
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Set compression indicator.
+     * @param compression The compression indicator
+     */
+    public void setCompression(
+        final boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Get compression level.
+     * @return The compression level
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Set compression level.
+     * @param compressionLevel The compression level, from 0 to 9
+     */
+    public void setCompressionLevel(
+        final int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Get request compression threshold.
+     * @return The minimum size of a request body to compress, or 0 to never compress request bodies
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Set request compression threshold.
+     * @param requestCompressionThreshold The minimum size of a request body to compress, or 0 to never compress request bodies
+     */
+    public void setRequestCompressionThreshold(
+        final int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Get optimize mapper indicator.
+     * @return true if the object mapper should be optimized, false otherwise
+     */
+    public boolean isOptimizeMapper() {
+        return optimizeMapper;
+    }
+
+    /**
+     * Set optimize mapper indicator.
+     * @param optimizeMapper The optimize mapper indicator
+     */
+    public void setOptimizeMapper(
+        final boolean optimizeMapper) {
+        this.optimizeMapper = optimizeMapper;
+    }
+
+    /**
+     * Get direct transport indicator.
+     * @return true if requests should be sent directly with the HTTP client rather than with the {@code RestTemplate}, false otherwise
+     */
+    public boolean isDirectTransport() {
+        return directTransport;
+    }
+
+    /**
+     * Set direct transport indicator.
+     * @param directTransport The direct transport indicator
+     */
+    public void setDirectTransport(
+        final boolean directTransport) {
+        this.directTransport = directTransport;
+    }
+
+    /**
+     * Get stackless exceptions indicator.
+     * @return true if the exceptions which are raised for failed requests should not capture a stack trace, false otherwise
+     */
+    public boolean isStacklessExceptions() {
+        return stacklessExceptions;
+    }
+
+    /**
+     * Set stackless exceptions indicator.
+     * @param stacklessExceptions The stackless exceptions indicator
+     */
+    public void setStacklessExceptions(
+        final boolean stacklessExceptions) {
+        this.stacklessExceptions = stacklessExceptions;
+    }
+
+    /**
+     * Get payload logging indicator.
+     * @return true if the payloads of requests and responses should be logged at debug level, false otherwise
+     */
+    public boolean isPayloadLogging() {
+        return payloadLogging;
+    }
+
+    /**
+     * Set payload logging indicator.
+     * @param payloadLogging The payload logging indicator
+     */
+    public void setPayloadLogging(
+        final boolean payloadLogging) {
+        this.payloadLogging = payloadLogging;
+    }
+
+    /**
+     * Get payload sample rate.
+     * @return The fraction of payloads to log, from 0 to 1
+     */
+    public double getPayloadSampleRate() {
+        return payloadSampleRate;
+    }
+
+    /**
+     * Set payload sample rate.
+     * @param payloadSampleRate The fraction of payloads to log, from 0 to 1
+     */
+    public void setPayloadSampleRate(
+        final double payloadSampleRate) {
+        this.payloadSampleRate = payloadSampleRate;
+    }
+
+    /**
+     * Get payload paths.
+     * @return The URI path prefixes on which payloads should be logged, or empty to log payloads on all URI paths
+     */
+    public List<String> getPayloadPaths() {
+        return payloadPaths;
+    }
+
+    /**
+     * Set payload paths.
+     * @param payloadPaths The URI path prefixes on which payloads should be logged, or empty to log payloads on all URI paths
+     */
+    public void setPayloadPaths(
+        final List<String> payloadPaths) {
+        this.payloadPaths = payloadPaths;
+    }
+
+    /**
+     * Get payload maximum length.
+     * @return The maximum number of characters of a payload to log, or 0 to log payloads in full
+     */
+    public int getPayloadMaxLength() {
+        return payloadMaxLength;
+    }
+
+    /**
+     * Set payload maximum length.
+     * @param payloadMaxLength The maximum number of characters of a payload to log, or 0 to log payloads in full
+     */
+    public void setPayloadMaxLength(
+        final int payloadMaxLength) {
+        this.payloadMaxLength = payloadMaxLength;
+    }
+
+    /**
+     * Get payload redact fields.
+     * @return The names of the JSON fields whose values should be redacted from logged payloads
+     */
+    public List<String> getPayloadRedactFields() {
+        return payloadRedactFields;
+    }
+
+    /**
+     * Set payload redact fields.
+     * @param payloadRedactFields The names of the JSON fields whose values should be redacted from logged payloads
+     */
+    public void setPayloadRedactFields(
+        final List<String> payloadRedactFields) {
+        this.payloadRedactFields = payloadRedactFields;
+    }
+
+    /**
+     * Get payload asynchronous logging indicator.
+     * @return true if payloads should be logged on a background thread, false otherwise
+     */
+    public boolean isPayloadAsync() {
+        return payloadAsync;
+    }
+
+    /**
+     * Set payload asynchronous logging indicator.
+     * @param payloadAsync The payload asynchronous logging indicator
+     */
+    public void setPayloadAsync(
+        final boolean payloadAsync) {
+        this.payloadAsync = payloadAsync;
+    }
+
 }
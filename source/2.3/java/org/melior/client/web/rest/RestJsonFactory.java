@@ -0,0 +1,37 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Holds the JSON factory which is shared by all optimized JSON object mappers, so that
+ * they share the canonicalized field names of the factory, and the parser and generator
+ * buffers which the factory recycles per thread.  Field names are canonicalized but not
+ * interned, which avoids contention on the JVM string table.
+ * @author Melior
+ * @since 2.3
+ * @see RestObjectMapper#ofJSON(boolean, boolean)
+ */
+final class RestJsonFactory {
+
+    static final JsonFactory INSTANCE = JsonFactory.builder()
+        .enable(JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING)
+        .enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES)
+        .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+        .build();
+
+    /**
+     * Constructor.
+     */
+    private RestJsonFactory() {
+
+        super();
+    }
+
+}
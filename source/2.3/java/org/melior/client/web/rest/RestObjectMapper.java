@@ -11,14 +11,19 @@ import com.ctc.wstx.api.WstxInputProperties;
 import com.ctc.wstx.stax.WstxInputFactory;
 import com.ctc.wstx.stax.WstxOutputFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import javax.xml.stream.XMLResolver;
+import org.melior.client.web.rest.codec.JsonCodecModule;
 import org.codehaus.stax2.XMLInputFactory2;
 
 /**
- * Create object mappers for REST requests where the request body is JSON or XML.
+ * Create object mappers for REST requests where the request body is JSON or XML, or
+ * one of the binary JSON formats Smile or CBOR.
  * @author Melior
  * @since 2.3
  * @see ObjectMapper
@@ -47,10 +52,43 @@ public interface RestObjectMapper {
     public static ObjectMapper ofJSON(
         final boolean failOnUnknownProperties) {
 
+        return ofJSON(failOnUnknownProperties, false);
+    }
+
+    /**
+     * Create an object mapper with functionality for reading and writing JSON
+     * to and from basic POJOs (Plain Old Java Objects).
+     * <p>
+     * An optimized object mapper shares one tuned JSON factory with all other optimized
+     * JSON object mappers, and accesses the getters, setters and constructors of POJOs
+     * with generated accessors rather than with reflection.
+     * <p>
+     * The codecs which have been generated for {@code JsonCodec} classes are registered
+     * with every JSON, Smile and CBOR object mapper.
+     * @param failOnUnknownProperties {@code true} if the object mapper should
+     * fail when encountering unknown properties, {@code false} otherwise
+     * @param optimize {@code true} if the object mapper should be optimized,
+     * {@code false} otherwise
+     * @return The object mapper
+     * @see #optimize(ObjectMapper)
+     */
+    public static ObjectMapper ofJSON(
+        final boolean failOnUnknownProperties,
+        final boolean optimize) {
+
         ObjectMapper objectMapper;
 
-        objectMapper = new ObjectMapper();
+        if (optimize == true) {
+
+            objectMapper = optimize(new ObjectMapper(RestJsonFactory.INSTANCE));
+        }
+        else {
+
+            objectMapper = new ObjectMapper();
+        }
+
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        JsonCodecModule.registerAll(objectMapper);
 
         return objectMapper;
     }
@@ -101,4 +139,100 @@ public interface RestObjectMapper {
         return objectMapper;
     }
 
+    /**
+     * Create an object mapper with functionality for reading and writing Smile,
+     * the binary JSON format, to and from basic POJOs (Plain Old Java Objects).
+     * <p>
+     * The new object mapper will fail when encountering unknown properties.
+     * @return The object mapper
+     */
+    public static ObjectMapper ofSmile() {
+        return ofSmile(true);
+    }
+
+    /**
+     * Create an object mapper with functionality for reading and writing Smile,
+     * the binary JSON format, to and from basic POJOs (Plain Old Java Objects).
+     * @param failOnUnknownProperties {@code true} if the object mapper should
+     * fail when encountering unknown properties, {@code false} otherwise
+     * @return The object mapper
+     */
+    public static ObjectMapper ofSmile(
+        final boolean failOnUnknownProperties) {
+
+        ObjectMapper objectMapper;
+
+        objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        JsonCodecModule.registerAll(objectMapper);
+
+        return objectMapper;
+    }
+
+    /**
+     * Create an object mapper with functionality for reading and writing CBOR
+     * (Concise Binary Object Representation) to and from basic POJOs (Plain Old Java Objects).
+     * <p>
+     * The new object mapper will fail when encountering unknown properties.
+     * @return The object mapper
+     */
+    public static ObjectMapper ofCBOR() {
+        return ofCBOR(true);
+    }
+
+    /**
+     * Create an object mapper with functionality for reading and writing CBOR
+     * (Concise Binary Object Representation) to and from basic POJOs (Plain Old Java Objects).
+     * @param failOnUnknownProperties {@code true} if the object mapper should
+     * fail when encountering unknown properties, {@code false} otherwise
+     * @return The object mapper
+     */
+    public static ObjectMapper ofCBOR(
+        final boolean failOnUnknownProperties) {
+
+        ObjectMapper objectMapper;
+
+        objectMapper = new ObjectMapper(new CBORFactory());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        JsonCodecModule.registerAll(objectMapper);
+
+        return objectMapper;
+    }
+
+    /**
+     * Optimize an object mapper, so that it accesses the getters, setters and constructors
+     * of POJOs with generated accessors rather than with reflection.  On Java 9 and later the
+     * Blackbird module, which generates accessors with {@code LambdaMetafactory}, is preferred,
+     * while on Java 8 the Afterburner module, which generates bytecode, is used.
+     * <p>
+     * The modules are optional dependencies.  If neither module is available, then the
+     * object mapper is left as it is.
+     * @param objectMapper The object mapper
+     * @return The object mapper
+     */
+    public static ObjectMapper optimize(
+        final ObjectMapper objectMapper) {
+
+        String[] moduleClassNames;
+
+        moduleClassNames = (System.getProperty("java.specification.version", "").startsWith("1.") == true)
+            ? new String[] {"com.fasterxml.jackson.module.afterburner.AfterburnerModule"}
+            : new String[] {"com.fasterxml.jackson.module.blackbird.BlackbirdModule", "com.fasterxml.jackson.module.afterburner.AfterburnerModule"};
+
+        for (String moduleClassName : moduleClassNames) {
+
+            try {
+
+                objectMapper.registerModule((Module) Class.forName(moduleClassName).getDeclaredConstructor().newInstance());
+
+                break;
+            }
+            catch (ReflectiveOperationException | LinkageError exception) {
+            }
+
+        }
+
+        return objectMapper;
+    }
+
 }
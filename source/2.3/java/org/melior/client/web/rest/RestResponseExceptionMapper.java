@@ -7,12 +7,15 @@
         Service Harness
 */
 package org.melior.client.web.rest;
+import java.io.IOException;
 import org.melior.client.exception.ResponseExceptionMapper;
 import org.melior.service.exception.ExceptionType;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 
 /**
@@ -164,6 +167,70 @@ public class RestResponseExceptionMapper implements ResponseExceptionMapper {
             ? null : status + " " + error) : message;
     }
 
+    /**
+     * Read exception payload in a single pass over a parser, which has not yet advanced to
+     * the first token.  Only the parameters which are supported by the mapper are read, any
+     * other parameters are skipped without being bound, and reading stops as soon as all the
+     * supported parameters have been found.
+     * @param parser The parser
+     * @return The exception mapper, or {@code null} if the payload is not an object
+     * @throws IOException if unable to read the payload
+     */
+    static RestResponseExceptionMapper read(
+        final JsonParser parser) throws IOException {
+
+        RestResponseExceptionMapper exceptionMapper;
+        String name;
+        String value;
+        int found = 0;
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+
+        exceptionMapper = new RestResponseExceptionMapper();
+
+        while ((found != 0x1F) && (parser.nextToken() == JsonToken.FIELD_NAME)) {
+            name = parser.getCurrentName();
+
+            if (parser.nextToken().isScalarValue() == false) {
+                parser.skipChildren();
+
+                continue;
+            }
+
+            value = parser.getValueAsString();
+
+            switch (name) {
+            case "type":
+                exceptionMapper.type = value;
+                found |= 0x01;
+                break;
+            case "code":
+                exceptionMapper.code = value;
+                found |= 0x02;
+                break;
+            case "message":
+                exceptionMapper.message = value;
+                found |= 0x04;
+                break;
+            case "status":
+                exceptionMapper.status = value;
+                found |= 0x08;
+                break;
+            case "error":
+                exceptionMapper.error = value;
+                found |= 0x10;
+                break;
+            default:
+                break;
+            }
+
+        }
+
+        return exceptionMapper;
+    }
+
     /**
      * Get exception type.
      * @param statusCode The status code
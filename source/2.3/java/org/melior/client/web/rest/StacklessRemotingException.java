@@ -0,0 +1,62 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import org.melior.client.exception.RemotingException;
+import org.melior.service.exception.ExceptionType;
+
+/**
+ * A {@code RemotingException} which does not capture a stack trace.  When a target endpoint
+ * fails, then the REST client may raise tens of thousands of exceptions per second, where
+ * capturing the stack trace of each exception dominates the cost of the failure.  The stack
+ * trace of a remoting exception is rarely of interest, as the exception is fully described
+ * by its type, code and message, and by the stack trace of its cause, if any.
+ * @author Melior
+ * @since 2.3
+ */
+class StacklessRemotingException extends RemotingException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     * @param type The exception type
+     * @param code The exception code
+     * @param message The exception message
+     */
+    StacklessRemotingException(
+        final ExceptionType type,
+        final String code,
+        final String message) {
+
+        super(type, code, message);
+    }
+
+    /**
+     * Constructor.
+     * @param type The exception type
+     * @param message The exception message
+     * @param cause The cause
+     */
+    StacklessRemotingException(
+        final ExceptionType type,
+        final String message,
+        final Throwable cause) {
+
+        super(type, message, cause);
+    }
+
+    /**
+     * Do not capture the stack trace.
+     * @return This exception
+     */
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+}
@@ -0,0 +1,42 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import org.melior.client.exception.RemotingException;
+
+/**
+ * Wraps a {@code RemotingException} which occurs while iterating over a streaming
+ * response, where the {@code Iterator} and {@code Stream} interfaces do not allow
+ * checked exceptions to be raised.
+ * @author Melior
+ * @since 2.3
+ * @see ResponseIterator
+ */
+public class UncheckedRemotingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     * @param cause The remoting exception
+     */
+    public UncheckedRemotingException(
+        final RemotingException cause) {
+
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Get remoting exception.
+     * @return The remoting exception
+     */
+    public RemotingException getCause() {
+        return (RemotingException) super.getCause();
+    }
+
+}
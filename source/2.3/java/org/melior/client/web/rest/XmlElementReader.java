@@ -0,0 +1,135 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+/**
+ * Reads the occurrences of a repeated element of an XML document one at a time.  A StAX
+ * {@code XMLStreamReader} is advanced over the response stream to the start of the next
+ * occurrence of the element, which is then bound with a Jackson {@code FromXmlParser} that
+ * stops at the end of the element.  The rest of the document is skipped without being bound.
+ * @author Melior
+ * @since 2.3
+ * @param <T> The element type
+ */
+class XmlElementReader<T> implements ElementReader<T> {
+
+    private ObjectReader objectReader;
+
+    private XmlFactory xmlFactory;
+
+    private XMLStreamReader streamReader;
+
+    private String elementName;
+
+    private boolean hasNext;
+
+    /**
+     * Constructor.
+     * @param objectReader The object reader for the element type
+     * @param xmlFactory The XML factory
+     * @param elementName The local name of the repeated element
+     * @param inputStream The response stream
+     * @throws IOException if unable to start reading the response stream
+     */
+    XmlElementReader(
+        final ObjectReader objectReader,
+        final XmlFactory xmlFactory,
+        final String elementName,
+        final InputStream inputStream) throws IOException {
+
+        super();
+
+        this.objectReader = objectReader;
+
+        this.xmlFactory = xmlFactory;
+
+        this.elementName = elementName;
+
+        try {
+
+            this.streamReader = xmlFactory.getXMLInputFactory().createXMLStreamReader(inputStream);
+        }
+        catch (XMLStreamException exception) {
+            throw new IOException(exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Advance to the next element.
+     * @return true if there is another element, false otherwise
+     * @throws IOException if unable to read the response
+     */
+    public boolean hasNext() throws IOException {
+
+        if (hasNext == true) {
+            return true;
+        }
+
+        try {
+
+            while (streamReader.hasNext() == true) {
+
+                if ((streamReader.next() == XMLStreamConstants.START_ELEMENT)
+                    && (elementName.equals(streamReader.getLocalName()) == true)) {
+                    hasNext = true;
+
+                    return true;
+                }
+
+            }
+
+        }
+        catch (XMLStreamException exception) {
+            throw new IOException(exception.getMessage(), exception);
+        }
+
+        return false;
+    }
+
+    /**
+     * Read the next element.
+     * @return The element
+     * @throws IOException if unable to read or bind the element
+     */
+    public T next() throws IOException {
+
+        if (hasNext() == false) {
+            return null;
+        }
+
+        hasNext = false;
+
+        return objectReader.readValue(xmlFactory.createParser(streamReader));
+    }
+
+    /**
+     * Release the resources of the reader.
+     * @throws IOException if unable to release the resources
+     */
+    public void close() throws IOException {
+
+        try {
+
+            streamReader.close();
+        }
+        catch (XMLStreamException exception) {
+            throw new IOException(exception.getMessage(), exception);
+        }
+
+    }
+
+}
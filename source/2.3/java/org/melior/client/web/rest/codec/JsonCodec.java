@@ -0,0 +1,36 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest.codec;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO for which a reflection-free Jackson serializer and deserializer are generated
+ * at build time by the {@code JsonCodecProcessor}.  The generated codec is registered
+ * automatically with the object mappers that are created by {@code RestObjectMapper}.
+ * <p>
+ * The DTO must be a public, non-generic, top-level or static nested class with a public
+ * no-argument constructor.  Its properties are its public getters and setters, and its
+ * public fields, which may be renamed with {@code @JsonProperty} or excluded with
+ * {@code @JsonIgnore}.  Other Jackson annotations on the DTO are not applied by the
+ * generated codec.
+ * @author Melior
+ * @since 2.3
+ * @see JsonCodecProcessor
+ * @see JsonCodecModule
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface JsonCodec {
+
+}
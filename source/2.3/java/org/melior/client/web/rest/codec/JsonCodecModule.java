@@ -0,0 +1,324 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest.codec;
+import java.io.IOException;
+import java.util.ServiceLoader;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Base class of the Jackson modules which are generated by the {@code JsonCodecProcessor}.
+ * Each generated module registers the serializer and deserializer of one DTO, and is listed
+ * as a service provider of this class, so that the modules are found without scanning the
+ * class path.
+ * <p>
+ * The generated codecs do not apply the settings of the object mapper, so they take the
+ * place of the bean serializer and the bean deserializer of the DTO only while the object
+ * mapper has no property naming strategy, includes all properties, and does not match
+ * property names case-insensitively.  The bean serializer is still used for a value that
+ * is written with a serialization view, or that is assigned a property filter by the
+ * filter provider of the serializer provider, such as the filter of a sparse fieldset.
+ * @author Melior
+ * @since 2.3
+ * @see JsonCodec
+ */
+public abstract class JsonCodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     * @param type The DTO type
+     * @param serializer The generated serializer
+     * @param deserializer The generated deserializer
+     */
+    protected JsonCodecModule(
+        final Class<?> type,
+        final JsonSerializer<?> serializer,
+        final JsonDeserializer<?> deserializer) {
+
+        super(type.getName() + "JsonCodec");
+
+        setSerializerModifier(new SerializerModifier(type, serializer));
+
+        setDeserializerModifier(new DeserializerModifier(type, deserializer));
+    }
+
+    /**
+     * Register all generated modules which are available to the context class loader
+     * with an object mapper.
+     * @param objectMapper The object mapper
+     * @return The object mapper
+     */
+    public static ObjectMapper registerAll(
+        final ObjectMapper objectMapper) {
+
+        for (JsonCodecModule module : ServiceLoader.load(JsonCodecModule.class)) {
+            objectMapper.registerModule(module);
+        }
+
+        return objectMapper;
+    }
+
+    /**
+     * Parse {@code char} value with the coercion rules of Jackson.  A string of one character
+     * or an integer in range is taken as the character, and an empty string or {@code null}
+     * is taken as the null character, unless nulls are not allowed for primitives.
+     * @param parser The parser
+     * @param context The deserialization context
+     * @return The character
+     * @throws IOException if the value cannot be parsed
+     */
+    protected static char parseChar(
+        final JsonParser parser,
+        final DeserializationContext context) throws IOException {
+
+        Character value;
+
+        switch (parser.currentTokenId()) {
+        case JsonTokenId.ID_STRING:
+
+            if (parser.getTextLength() == 1) {
+                return parser.getTextCharacters()[parser.getTextOffset()];
+            }
+
+            if (parser.getTextLength() == 0) {
+                return '\0';
+            }
+
+            break;
+        case JsonTokenId.ID_NUMBER_INT:
+
+            if ((parser.getNumberType() == JsonParser.NumberType.INT) && (parser.getIntValue() >= 0) && (parser.getIntValue() <= Character.MAX_VALUE)) {
+                return (char) parser.getIntValue();
+            }
+
+            break;
+        case JsonTokenId.ID_NULL:
+
+            if (context.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES) == true) {
+                return context.reportInputMismatch(Character.TYPE,
+                    "Cannot map `null` into type char (set DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES to 'false' to allow)");
+            }
+
+            return '\0';
+        default:
+            break;
+        }
+
+        value = (Character) context.handleUnexpectedToken(Character.TYPE, parser);
+
+        return (value == null) ? '\0' : value.charValue();
+    }
+
+    /**
+     * Serializer modifier which replaces the bean serializer of the DTO with the generated
+     * serializer, if the serialization configuration allows it.
+     */
+    private static final class SerializerModifier extends BeanSerializerModifier {
+
+        private Class<?> type;
+
+        private JsonSerializer<?> serializer;
+
+        private SerializerModifier(
+            final Class<?> type,
+            final JsonSerializer<?> serializer) {
+
+            super();
+
+            this.type = type;
+
+            this.serializer = serializer;
+        }
+
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(
+            final SerializationConfig config,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer) {
+
+            JsonInclude.Include inclusion;
+
+            if ((beanDesc.getBeanClass() != type) || (config.getPropertyNamingStrategy() != null) || (serializer.usesObjectId() == true)) {
+                return serializer;
+            }
+
+            inclusion = beanDesc.findPropertyInclusion(config.getDefaultPropertyInclusion(type)).getValueInclusion();
+
+            if ((inclusion != JsonInclude.Include.ALWAYS) && (inclusion != JsonInclude.Include.USE_DEFAULTS)) {
+                return serializer;
+            }
+
+            return new CodecSerializer((JsonSerializer<Object>) this.serializer, (JsonSerializer<Object>) serializer,
+                config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()));
+        }
+
+    }
+
+    /**
+     * Deserializer modifier which replaces the bean deserializer of the DTO with the generated
+     * deserializer, if the deserialization configuration allows it.
+     */
+    private static final class DeserializerModifier extends BeanDeserializerModifier {
+
+        private Class<?> type;
+
+        private JsonDeserializer<?> deserializer;
+
+        private DeserializerModifier(
+            final Class<?> type,
+            final JsonDeserializer<?> deserializer) {
+
+            super();
+
+            this.type = type;
+
+            this.deserializer = deserializer;
+        }
+
+        public JsonDeserializer<?> modifyDeserializer(
+            final DeserializationConfig config,
+            final BeanDescription beanDesc,
+            final JsonDeserializer<?> deserializer) {
+
+            return ((beanDesc.getBeanClass() != type) || (config.getPropertyNamingStrategy() != null)
+                || (config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES) == true)) ? deserializer : this.deserializer;
+        }
+
+    }
+
+    /**
+     * Serializer which writes a value with the generated serializer, unless the value is
+     * written with a serialization view or is assigned a property filter, in which case it
+     * is written with the bean serializer.
+     */
+    private static final class CodecSerializer extends StdSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private JsonSerializer<Object> codec;
+
+        private JsonSerializer<Object> serializer;
+
+        private Object filterId;
+
+        private CodecSerializer(
+            final JsonSerializer<Object> codec,
+            final JsonSerializer<Object> serializer,
+            final Object filterId) {
+
+            super(Object.class);
+
+            this.codec = codec;
+
+            this.serializer = serializer;
+
+            this.filterId = filterId;
+        }
+
+        public void serialize(
+            final Object value,
+            final JsonGenerator generator,
+            final SerializerProvider provider) throws IOException {
+
+            FilterProvider filterProvider;
+
+            if (provider.getActiveView() != null) {
+                serializer.serialize(value, generator, provider);
+
+                return;
+            }
+
+            if (filterId != null) {
+                filterProvider = provider.getFilterProvider();
+
+                if ((filterProvider == null) || (filterProvider.findPropertyFilter(filterId, value) != null)) {
+                    serializer.serialize(value, generator, provider);
+
+                    return;
+                }
+
+            }
+
+            codec.serialize(value, generator, provider);
+        }
+
+        public void serializeWithType(
+            final Object value,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final TypeSerializer typeSerializer) throws IOException {
+
+            serializer.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        public boolean isEmpty(
+            final SerializerProvider provider,
+            final Object value) {
+
+            return serializer.isEmpty(provider, value);
+        }
+
+        public JsonSerializer<Object> unwrappingSerializer(
+            final NameTransformer unwrapper) {
+
+            return serializer.unwrappingSerializer(unwrapper);
+        }
+
+        public void resolve(
+            final SerializerProvider provider) throws JsonMappingException {
+
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) serializer).resolve(provider);
+            }
+
+        }
+
+        public JsonSerializer<?> createContextual(
+            final SerializerProvider provider,
+            final BeanProperty property) throws JsonMappingException {
+
+            JsonSerializer<?> contextual;
+
+            if ((serializer instanceof ContextualSerializer) == false) {
+                return this;
+            }
+
+            contextual = ((ContextualSerializer) serializer).createContextual(provider, property);
+
+            return (contextual == serializer) ? this : contextual;
+        }
+
+    }
+
+}
@@ -0,0 +1,801 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.client.web.rest.codec;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a reflection-free Jackson serializer and deserializer, wrapped in a
+ * {@code JsonCodecModule}, for each class that is annotated with {@code JsonCodec}.
+ * <p>
+ * The serializer writes each property with a pre-encoded field name, and writes scalar
+ * values directly to the generator.  The deserializer instantiates the class with its
+ * no-argument constructor and dispatches on the field name with a {@code switch}, parsing
+ * scalar values directly and delegating other values to the deserializers which are
+ * resolved once for the property types.  Neither uses reflection at runtime, so the
+ * generated code also works under native-image.
+ * <p>
+ * The generated modules are listed in {@code META-INF/services}, from where they are
+ * registered by {@code RestObjectMapper}.  The processor is discovered by the compiler
+ * when this artefact is on the class path.
+ * @author Melior
+ * @since 2.3
+ * @see JsonCodec
+ */
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + JsonCodecModule.class.getName();
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+    private Set<String> modules = new TreeSet<String>();
+
+    /**
+     * Constructor.
+     */
+    public JsonCodecProcessor() {
+
+        super();
+    }
+
+    /**
+     * Get supported annotation types.
+     * @return The supported annotation types
+     */
+    public Set<String> getSupportedAnnotationTypes() {
+
+        Set<String> annotationTypes;
+
+        annotationTypes = new TreeSet<String>();
+        annotationTypes.add(JsonCodec.class.getName());
+
+        return annotationTypes;
+    }
+
+    /**
+     * Get supported source version.
+     * @return The latest supported source version
+     */
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generate codecs for annotated classes, and list the generated modules once all
+     * rounds have been processed.
+     * @param annotations The annotation types
+     * @param roundEnvironment The round environment
+     * @return true, as the annotation is claimed by this processor
+     */
+    public boolean process(
+        final Set<? extends TypeElement> annotations,
+        final RoundEnvironment roundEnvironment) {
+
+        if (roundEnvironment.processingOver() == true) {
+            writeServiceFile();
+
+            return true;
+        }
+
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(JsonCodec.class)) {
+
+            if (isSupported(element) == true) {
+                generateCodec((TypeElement) element);
+            }
+
+        }
+
+        return true;
+    }
+
+    /**
+     * Check whether a codec can be generated for an annotated element, and report an
+     * error if not.
+     * @param element The annotated element
+     * @return true if a codec can be generated, false otherwise
+     */
+    private boolean isSupported(
+        final Element element) {
+
+        TypeElement typeElement;
+        boolean hasConstructor = false;
+
+        if (element.getKind() != ElementKind.CLASS) {
+            return error(element, "@JsonCodec may only be applied to a class.");
+        }
+
+        typeElement = (TypeElement) element;
+
+        if ((typeElement.getModifiers().contains(Modifier.PUBLIC) == false)
+            || (typeElement.getModifiers().contains(Modifier.ABSTRACT) == true)) {
+            return error(element, "@JsonCodec class must be public and not abstract.");
+        }
+
+        if ((typeElement.getNestingKind() == NestingKind.MEMBER)
+            && (typeElement.getModifiers().contains(Modifier.STATIC) == false)) {
+            return error(element, "@JsonCodec nested class must be static.");
+        }
+
+        if ((typeElement.getNestingKind() == NestingKind.LOCAL)
+            || (typeElement.getNestingKind() == NestingKind.ANONYMOUS)) {
+            return error(element, "@JsonCodec class must be a top-level or static nested class.");
+        }
+
+        if (typeElement.getTypeParameters().isEmpty() == false) {
+            return error(element, "@JsonCodec class must not be generic.");
+        }
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+
+            if ((constructor.getModifiers().contains(Modifier.PUBLIC) == true)
+                && (constructor.getParameters().isEmpty() == true)) {
+                hasConstructor = true;
+            }
+
+        }
+
+        if (hasConstructor == false) {
+            return error(element, "@JsonCodec class must have a public no-argument constructor.");
+        }
+
+        return true;
+    }
+
+    /**
+     * Report an error on an element.
+     * @param element The element
+     * @param message The error message
+     * @return false
+     */
+    private boolean error(
+        final Element element,
+        final String message) {
+
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+
+        return false;
+    }
+
+    /**
+     * Generate codec for class.
+     * @param typeElement The class
+     */
+    private void generateCodec(
+        final TypeElement typeElement) {
+
+        String packageName;
+        String moduleName;
+        String qualifiedName;
+        List<Property> properties;
+        StringBuilder source;
+
+        packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+        moduleName = getModuleName(typeElement);
+        qualifiedName = typeElement.getQualifiedName().toString();
+        properties = getProperties(typeElement);
+
+        source = new StringBuilder();
+
+        if (packageName.isEmpty() == false) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n * Generated by JsonCodecProcessor for {@code ").append(qualifiedName).append("}.  Do not edit.\n */\n");
+        source.append("public final class ").append(moduleName).append(" extends org.melior.client.web.rest.codec.JsonCodecModule {\n\n");
+        source.append("    private static final long serialVersionUID = 1L;\n\n");
+        source.append("    public ").append(moduleName).append("() {\n");
+        source.append("        super(").append(qualifiedName).append(".class, new Serializer(), new Deserializer());\n");
+        source.append("    }\n\n");
+
+        generateSerializer(source, qualifiedName, properties);
+        generateDeserializer(source, qualifiedName, properties);
+
+        source.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(
+            (packageName.isEmpty() == true) ? moduleName : packageName + "." + moduleName, typeElement).openWriter()) {
+
+            writer.write(source.toString());
+        }
+        catch (IOException exception) {
+            error(typeElement, "Failed to generate codec: " + exception.getMessage());
+
+            return;
+        }
+
+        modules.add((packageName.isEmpty() == true) ? moduleName : packageName + "." + moduleName);
+    }
+
+    /**
+     * Generate serializer.
+     * @param source The source code
+     * @param qualifiedName The qualified name of the class
+     * @param properties The properties of the class
+     */
+    private void generateSerializer(
+        final StringBuilder source,
+        final String qualifiedName,
+        final List<Property> properties) {
+
+        Property property;
+        String value;
+
+        source.append("    static final class Serializer extends com.fasterxml.jackson.databind.ser.std.StdSerializer<").append(qualifiedName).append("> {\n\n");
+        source.append("        private static final long serialVersionUID = 1L;\n\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+
+            if (properties.get(i).getter != null) {
+                source.append("        private static final com.fasterxml.jackson.core.io.SerializedString NAME_").append(i)
+                    .append(" = new com.fasterxml.jackson.core.io.SerializedString(\"").append(escape(properties.get(i).name)).append("\");\n\n");
+            }
+
+        }
+
+        source.append("        Serializer() {\n");
+        source.append("            super(").append(qualifiedName).append(".class);\n");
+        source.append("        }\n\n");
+        source.append("        public void serialize(").append(qualifiedName).append(" value, com.fasterxml.jackson.core.JsonGenerator generator,\n");
+        source.append("            com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {\n\n");
+        source.append("            generator.writeStartObject(value);\n\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            property = properties.get(i);
+
+            if (property.getter == null) {
+                continue;
+            }
+
+            value = "value." + property.getter;
+
+            source.append("            generator.writeFieldName(NAME_").append(i).append(");\n");
+
+            switch (property.kind) {
+            case PRIMITIVE:
+                source.append("            generator.").append(getWriteMethod(property.type)).append("(")
+                    .append((property.type.getKind() == TypeKind.CHAR) ? "String.valueOf(" + value + ")" : value).append(");\n\n");
+                break;
+            case WRAPPER:
+            case STRING:
+                source.append("            if (").append(value).append(" == null) {\n");
+                source.append("                generator.writeNull();\n");
+                source.append("            }\n");
+                source.append("            else {\n");
+                source.append("                generator.").append(getWriteMethod(property.type)).append("(").append(value)
+                    .append((property.kind == Kind.WRAPPER) ? "." + getPrimitiveName(property.type) + "Value()" : "").append(");\n");
+                source.append("            }\n\n");
+                break;
+            default:
+                source.append("            provider.defaultSerializeValue(").append(value).append(", generator);\n\n");
+                break;
+            }
+
+        }
+
+        source.append("            generator.writeEndObject();\n");
+        source.append("        }\n\n");
+        source.append("    }\n\n");
+    }
+
+    /**
+     * Generate deserializer.
+     * @param source The source code
+     * @param qualifiedName The qualified name of the class
+     * @param properties The properties of the class
+     */
+    private void generateDeserializer(
+        final StringBuilder source,
+        final String qualifiedName,
+        final List<Property> properties) {
+
+        Property property;
+        String value;
+
+        source.append("    static final class Deserializer extends com.fasterxml.jackson.databind.deser.std.StdDeserializer<").append(qualifiedName).append(">\n");
+        source.append("        implements com.fasterxml.jackson.databind.deser.ResolvableDeserializer {\n\n");
+        source.append("        private static final long serialVersionUID = 1L;\n\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+
+            if ((properties.get(i).setter != null) && (properties.get(i).kind == Kind.OBJECT)) {
+                source.append("        private com.fasterxml.jackson.databind.JsonDeserializer<Object> deserializer").append(i).append(";\n\n");
+            }
+
+        }
+
+        source.append("        Deserializer() {\n");
+        source.append("            super(").append(qualifiedName).append(".class);\n");
+        source.append("        }\n\n");
+        source.append("        public void resolve(com.fasterxml.jackson.databind.DeserializationContext context)\n");
+        source.append("            throws com.fasterxml.jackson.databind.JsonMappingException {\n\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            property = properties.get(i);
+
+            if ((property.setter != null) && (property.kind == Kind.OBJECT)) {
+                source.append("            deserializer").append(i).append(" = context.findRootValueDeserializer(context.getTypeFactory().constructType(\n");
+                source.append("                new com.fasterxml.jackson.core.type.TypeReference<").append(getBoxedName(property.type)).append(">() {}));\n");
+            }
+
+        }
+
+        source.append("        }\n\n");
+        source.append("        public boolean isCachable() {\n");
+        source.append("            return true;\n");
+        source.append("        }\n\n");
+        source.append("        @SuppressWarnings({\"unchecked\", \"deprecation\"})\n");
+        source.append("        public ").append(qualifiedName).append(" deserialize(com.fasterxml.jackson.core.JsonParser parser,\n");
+        source.append("            com.fasterxml.jackson.databind.DeserializationContext context) throws java.io.IOException {\n\n");
+        source.append("            ").append(qualifiedName).append(" value;\n");
+        source.append("            String name;\n\n");
+        source.append("            if (parser.isExpectedStartObjectToken() == true) {\n");
+        source.append("                name = parser.nextFieldName();\n");
+        source.append("            }\n");
+        source.append("            else if (parser.hasToken(com.fasterxml.jackson.core.JsonToken.FIELD_NAME) == true) {\n");
+        source.append("                name = parser.getCurrentName();\n");
+        source.append("            }\n");
+        source.append("            else {\n");
+        source.append("                return (").append(qualifiedName).append(") context.handleUnexpectedToken(handledType(), parser);\n");
+        source.append("            }\n\n");
+        source.append("            value = new ").append(qualifiedName).append("();\n\n");
+        source.append("            for (; name != null; name = parser.nextFieldName()) {\n");
+        source.append("                parser.nextToken();\n\n");
+        source.append("                switch (name) {\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            property = properties.get(i);
+
+            if (property.setter == null) {
+                continue;
+            }
+
+            switch (property.kind) {
+            case PRIMITIVE:
+                value = getParseExpression(property.type);
+                break;
+            case WRAPPER:
+                value = "parser.hasToken(com.fasterxml.jackson.core.JsonToken.VALUE_NULL) ? null : " + getBoxedName(property.type)
+                    + ".valueOf(" + getParseExpression(processingEnv.getTypeUtils().unboxedType(property.type)) + ")";
+                break;
+            case STRING:
+                value = "parser.hasToken(com.fasterxml.jackson.core.JsonToken.VALUE_NULL) ? null : _parseString(parser, context)";
+                break;
+            default:
+                value = "(" + getBoxedName(property.type) + ") (parser.hasToken(com.fasterxml.jackson.core.JsonToken.VALUE_NULL)"
+                    + " ? deserializer" + i + ".getNullValue(context) : deserializer" + i + ".deserialize(parser, context))";
+                break;
+            }
+
+            source.append("                case \"").append(escape(property.name)).append("\":\n");
+            source.append("                    value.").append(String.format(property.setter, value)).append(";\n");
+            source.append("                    break;\n");
+        }
+
+        source.append("                default:\n");
+        source.append("                    context.handleUnknownProperty(parser, this, value, name);\n");
+        source.append("                    break;\n");
+        source.append("                }\n\n");
+        source.append("            }\n\n");
+        source.append("            return value;\n");
+        source.append("        }\n\n");
+        source.append("    }\n\n");
+    }
+
+    /**
+     * Get properties of class.  The properties are the public fields of the class and its
+     * superclasses, which are overridden by the public getters and setters.
+     * @param typeElement The class
+     * @return The properties
+     */
+    private List<Property> getProperties(
+        final TypeElement typeElement) {
+
+        Map<String, Property> properties;
+        List<? extends Element> members;
+        String accessorName;
+        Property property;
+        TypeMirror type;
+
+        properties = new LinkedHashMap<String, Property>();
+        members = processingEnv.getElementUtils().getAllMembers(typeElement);
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+
+            if ((field.getModifiers().contains(Modifier.PUBLIC) == false)
+                || (field.getModifiers().contains(Modifier.STATIC) == true)
+                || (field.getModifiers().contains(Modifier.TRANSIENT) == true)) {
+                continue;
+            }
+
+            property = getProperty(properties, field.getSimpleName().toString(), field.asType());
+            property.rename(getPropertyName(field));
+            property.ignored |= hasAnnotation(field, JSON_IGNORE);
+            property.getter = field.getSimpleName().toString();
+
+            if (field.getModifiers().contains(Modifier.FINAL) == false) {
+                property.setter = field.getSimpleName() + " = %s";
+            }
+
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+
+            if ((method.getModifiers().contains(Modifier.PUBLIC) == false)
+                || (method.getModifiers().contains(Modifier.STATIC) == true)
+                || (((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object") == true)) {
+                continue;
+            }
+
+            accessorName = method.getSimpleName().toString();
+
+            if ((method.getParameters().isEmpty() == true) && (method.getReturnType().getKind() != TypeKind.VOID)
+                && (((accessorName.startsWith("get") == true) && (accessorName.length() > 3))
+                    || ((accessorName.startsWith("is") == true) && (accessorName.length() > 2)
+                        && (method.getReturnType().getKind() == TypeKind.BOOLEAN)))) {
+                type = method.getReturnType();
+                property = getProperty(properties, manglePropertyName(accessorName.substring(accessorName.startsWith("is") ? 2 : 3)), type);
+                property.type = type;
+                property.getter = accessorName + "()";
+            }
+            else if ((method.getParameters().size() == 1) && (accessorName.startsWith("set") == true) && (accessorName.length() > 3)) {
+                type = method.getParameters().get(0).asType();
+                property = getProperty(properties, manglePropertyName(accessorName.substring(3)), type);
+
+                if (processingEnv.getTypeUtils().isSameType(property.type, type) == false) {
+                    continue;
+                }
+
+                property.setter = accessorName + "(%s)";
+            }
+            else {
+                continue;
+            }
+
+            property.rename(getPropertyName(method));
+            property.ignored |= hasAnnotation(method, JSON_IGNORE);
+        }
+
+        return getProperties(properties);
+    }
+
+    /**
+     * Get included properties, with their kinds resolved.
+     * @param properties The properties, by implicit name
+     * @return The included properties
+     */
+    private List<Property> getProperties(
+        final Map<String, Property> properties) {
+
+        List<Property> included;
+
+        included = new ArrayList<Property>();
+
+        for (Property property : properties.values()) {
+
+            if (property.ignored == true) {
+                continue;
+            }
+
+            property.kind = getKind(property.type);
+            included.add(property);
+        }
+
+        return included;
+    }
+
+    /**
+     * Get property with implicit name, creating it if it does not exist yet.
+     * @param properties The properties, by implicit name
+     * @param implicitName The implicit name
+     * @param type The property type
+     * @return The property
+     */
+    private Property getProperty(
+        final Map<String, Property> properties,
+        final String implicitName,
+        final TypeMirror type) {
+
+        return properties.computeIfAbsent(implicitName, key -> new Property(key, type));
+    }
+
+    /**
+     * Derive property name from accessor name in the same way as Jackson does by default,
+     * by lower-casing the leading upper-case characters.
+     * @param name The accessor name without its prefix
+     * @return The property name
+     */
+    private String manglePropertyName(
+        final String name) {
+
+        StringBuilder propertyName;
+        int i;
+
+        propertyName = new StringBuilder(name);
+
+        for (i = 0; (i < propertyName.length()) && (Character.isUpperCase(propertyName.charAt(i)) == true); i++) {
+            propertyName.setCharAt(i, Character.toLowerCase(propertyName.charAt(i)));
+        }
+
+        return propertyName.toString();
+    }
+
+    /**
+     * Get explicit property name from the {@code @JsonProperty} annotation of an element.
+     * @param element The element
+     * @return The explicit property name, or null if there is none
+     */
+    private String getPropertyName(
+        final Element element) {
+
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_PROPERTY) == true) {
+
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+
+                    if ((entry.getKey().getSimpleName().contentEquals("value") == true)
+                        && (entry.getValue().getValue().toString().isEmpty() == false)) {
+                        return entry.getValue().getValue().toString();
+                    }
+
+                }
+
+            }
+
+        }
+
+        return null;
+    }
+
+    /**
+     * Check whether an element has an annotation.
+     * @param element The element
+     * @param annotationName The qualified name of the annotation type
+     * @return true if the element has the annotation, false otherwise
+     */
+    private boolean hasAnnotation(
+        final Element element,
+        final String annotationName) {
+
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName) == true) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Get kind of property type.
+     * @param type The property type
+     * @return The kind
+     */
+    private Kind getKind(
+        final TypeMirror type) {
+
+        if (type.getKind().isPrimitive() == true) {
+            return Kind.PRIMITIVE;
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Kind.OBJECT;
+        }
+
+        switch (type.toString()) {
+        case "java.lang.String":
+            return Kind.STRING;
+        case "java.lang.Boolean":
+        case "java.lang.Byte":
+        case "java.lang.Short":
+        case "java.lang.Integer":
+        case "java.lang.Long":
+        case "java.lang.Float":
+        case "java.lang.Double":
+            return Kind.WRAPPER;
+        default:
+            return Kind.OBJECT;
+        }
+
+    }
+
+    /**
+     * Get name of primitive type, or of the primitive type of a wrapper type.
+     * @param type The type
+     * @return The primitive name
+     */
+    private String getPrimitiveName(
+        final TypeMirror type) {
+
+        return (type.getKind().isPrimitive() == true) ? type.toString()
+            : processingEnv.getTypeUtils().unboxedType(type).toString();
+    }
+
+    /**
+     * Get name of type, boxing primitive types.
+     * @param type The type
+     * @return The boxed name
+     */
+    private String getBoxedName(
+        final TypeMirror type) {
+
+        return (type.getKind().isPrimitive() == true)
+            ? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString()
+            : type.toString();
+    }
+
+    /**
+     * Get generator method which writes a scalar type.
+     * @param type The scalar type
+     * @return The method name
+     */
+    private String getWriteMethod(
+        final TypeMirror type) {
+
+        if ((getKind(type) == Kind.STRING) || (type.getKind() == TypeKind.CHAR)) {
+            return "writeString";
+        }
+
+        switch (getPrimitiveName(type)) {
+        case "boolean":
+            return "writeBoolean";
+        default:
+            return "writeNumber";
+        }
+
+    }
+
+    /**
+     * Get expression which parses a primitive type with the coercion rules of Jackson.
+     * @param type The primitive type
+     * @return The expression
+     */
+    private String getParseExpression(
+        final TypeMirror type) {
+
+        String primitiveName;
+
+        primitiveName = type.toString();
+
+        if (type.getKind() == TypeKind.CHAR) {
+            return "parseChar(parser, context)";
+        }
+
+        return "_parse" + Character.toUpperCase(primitiveName.charAt(0)) + primitiveName.substring(1) + "Primitive(parser, context)";
+    }
+
+    /**
+     * Get name of generated module for class.
+     * @param typeElement The class
+     * @return The module name
+     */
+    private String getModuleName(
+        final TypeElement typeElement) {
+
+        StringBuilder moduleName;
+        Element element;
+
+        moduleName = new StringBuilder(typeElement.getSimpleName()).append("JsonCodec");
+        element = typeElement.getEnclosingElement();
+
+        while ((element instanceof PackageElement) == false) {
+            moduleName.insert(0, '_').insert(0, element.getSimpleName());
+            element = element.getEnclosingElement();
+        }
+
+        return moduleName.toString();
+    }
+
+    /**
+     * Escape string for use in a Java string literal.
+     * @param value The string
+     * @return The escaped string
+     */
+    private String escape(
+        final String value) {
+
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Write the generated modules to the service provider configuration file.
+     */
+    private void writeServiceFile() {
+
+        if (modules.isEmpty() == true) {
+            return;
+        }
+
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openWriter()) {
+
+            for (String module : modules) {
+                writer.write(module);
+                writer.write("\n");
+            }
+
+        }
+        catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + exception.getMessage());
+        }
+
+    }
+
+    /**
+     * The kinds of property type, which determine how a property is written and read.
+     */
+    private enum Kind {
+        PRIMITIVE, WRAPPER, STRING, OBJECT
+    }
+
+    /**
+     * A property of a class.
+     */
+    private static final class Property {
+
+        private String name;
+
+        private TypeMirror type;
+
+        private Kind kind;
+
+        private String getter;
+
+        private String setter;
+
+        private boolean ignored;
+
+        private Property(
+            final String name,
+            final TypeMirror type) {
+
+            this.name = name;
+
+            this.type = type;
+        }
+
+        private void rename(
+            final String explicitName) {
+
+            if (explicitName != null) {
+                name = explicitName;
+            }
+
+        }
+
+    }
+
+}
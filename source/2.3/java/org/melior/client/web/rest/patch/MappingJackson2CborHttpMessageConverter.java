@@ -0,0 +1,47 @@
+package org.melior.client.web.rest.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Copy of Spring Boot MappingJackson2CborHttpMessageConverter with patches to improve SSL performance.
+ * Will be dropped when Spring Boot is patched.
+ */
+public class MappingJackson2CborHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /**
+     * Construct a new {@code MappingJackson2CborHttpMessageConverter} using default configuration
+     * provided by {@code Jackson2ObjectMapperBuilder}.
+     */
+    public MappingJackson2CborHttpMessageConverter() {
+        this(Jackson2ObjectMapperBuilder.cbor().build());
+    }
+
+    /**
+     * Construct a new {@code MappingJackson2CborHttpMessageConverter} with a custom {@link ObjectMapper}
+     * (must be configured with a {@code CBORFactory} instance).
+     * You can use {@link Jackson2ObjectMapperBuilder} to build it easily.
+     * @see Jackson2ObjectMapperBuilder#cbor()
+     * @param objectMapper the
+     */
+    public MappingJackson2CborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, MediaType.APPLICATION_CBOR);
+        Assert.isInstanceOf(CBORFactory.class, objectMapper.getFactory(), "CBORFactory required");
+    }
+
+
+    /**
+     * {@inheritDoc}
+     * The {@code ObjectMapper} must be configured with a {@code CBORFactory} instance.
+     */
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        Assert.isInstanceOf(CBORFactory.class, objectMapper.getFactory(), "CBORFactory required");
+        super.setObjectMapper(objectMapper);
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.melior.client.web.rest.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Copy of Spring Boot MappingJackson2SmileHttpMessageConverter with patches to improve SSL performance.
+ * Will be dropped when Spring Boot is patched.
+ */
+public class MappingJackson2SmileHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    /**
+     * Construct a new {@code MappingJackson2SmileHttpMessageConverter} using default configuration
+     * provided by {@code Jackson2ObjectMapperBuilder}.
+     */
+    public MappingJackson2SmileHttpMessageConverter() {
+        this(Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    /**
+     * Construct a new {@code MappingJackson2SmileHttpMessageConverter} with a custom {@link ObjectMapper}
+     * (must be configured with a {@code SmileFactory} instance).
+     * You can use {@link Jackson2ObjectMapperBuilder} to build it easily.
+     * @see Jackson2ObjectMapperBuilder#smile()
+     * @param objectMapper the
+     */
+    public MappingJackson2SmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, new MediaType("application", "x-jackson-smile"));
+        Assert.isInstanceOf(SmileFactory.class, objectMapper.getFactory(), "SmileFactory required");
+    }
+
+
+    /**
+     * {@inheritDoc}
+     * The {@code ObjectMapper} must be configured with a {@code SmileFactory} instance.
+     */
+    @Override
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        Assert.isInstanceOf(SmileFactory.class, objectMapper.getFactory(), "SmileFactory required");
+        super.setObjectMapper(objectMapper);
+    }
+
+}
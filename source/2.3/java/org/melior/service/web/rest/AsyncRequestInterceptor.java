@@ -0,0 +1,82 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.concurrent.Callable;
+import org.melior.context.transaction.TransactionContext;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * Propagates the tracking data of a request to the thread on which the {@code Callable}
+ * that is returned by a {@code Controller} runs, and resets the transaction context of
+ * that thread when the {@code Callable} ends.
+ * @author Melior
+ * @since 2.3
+ * @see TransactionContextSnapshot
+ */
+class AsyncRequestInterceptor implements CallableProcessingInterceptor {
+
+    /**
+     * Constructor.
+     */
+    AsyncRequestInterceptor() {
+
+        super();
+    }
+
+    /**
+     * Capture tracking data of request before concurrent handling starts.
+     * @param <T> The result type
+     * @param request The request
+     * @param task The task
+     */
+    public <T> void beforeConcurrentHandling(
+        final NativeWebRequest request,
+        final Callable<T> task) {
+
+        request.setAttribute(TransactionContextSnapshot.ATTRIBUTE, TransactionContextSnapshot.capture(), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Restore tracking data of request on the thread which runs the task.
+     * @param <T> The result type
+     * @param request The request
+     * @param task The task
+     */
+    public <T> void preProcess(
+        final NativeWebRequest request,
+        final Callable<T> task) {
+
+        TransactionContextSnapshot snapshot;
+
+        snapshot = (TransactionContextSnapshot) request.getAttribute(TransactionContextSnapshot.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (snapshot != null) {
+            snapshot.restore();
+        }
+
+    }
+
+    /**
+     * Reset transaction context of the thread which ran the task.
+     * @param <T> The result type
+     * @param request The request
+     * @param task The task
+     * @param result The result of the task
+     */
+    public <T> void postProcess(
+        final NativeWebRequest request,
+        final Callable<T> task,
+        final Object result) {
+
+        TransactionContext.get().reset();
+    }
+
+}
@@ -0,0 +1,832 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Enumeration;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.melior.client.web.rest.CompressionCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Implementation of a request filter that compresses responses with the "gzip" or "deflate"
+ * content coding when the client accepts it, and decompresses client requests which use
+ * either content coding before the servlet container invokes the target resource.
+ * <p>
+ * A response is only compressed once its body exceeds the compression threshold.  Until then
+ * the body is buffered, so that small responses are sent as they are, with a "Content-Length"
+ * header.  The compression uses pooled {@code Deflater} instances.
+ * <p>
+ * A decompressed request body may be no larger than the decompression limit, which defaults
+ * to the maximum entity size of Undertow, as the maximum entity size only limits the size of
+ * the compressed request body.  A request whose body exceeds the limit is answered with HTTP
+ * status 413.  A request body which is read with non-blocking I/O is only decompressed once
+ * it has been received in full.  A response body which is written with non-blocking I/O is
+ * not compressed, provided that nothing has been written before the write listener is set.
+ * @author Melior
+ * @since 2.3
+ * @see CompressionCodec
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "server.request.compression", havingValue = "true")
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final long DEFAULT_DECOMPRESSION_LIMIT = 10 * 1024 * 1024;
+
+    private CompressionCodec codec;
+
+    private int threshold;
+
+    private long decompressionLimit;
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     */
+    public CompressionFilter(
+        final RestServiceConfig configuration) {
+
+        super();
+
+        this.codec = new CompressionCodec(configuration.getCompressionLevel(), Runtime.getRuntime().availableProcessors() * 2);
+
+        this.threshold = configuration.getCompressionThreshold();
+
+        this.decompressionLimit = (configuration.getDecompressionLimit() >= 0) ? configuration.getDecompressionLimit()
+            : (configuration.getUndertow().getMaxEntitySize() >= 0) ? configuration.getUndertow().getMaxEntitySize()
+            : DEFAULT_DECOMPRESSION_LIMIT;
+    }
+
+    /**
+     * This method is called only once for each request that is passed through the filter chain
+     * due to a client request. The {@code FilterChain} passed in to this method allows the filter
+     * to pass on the request and response to the next entity in the chain.
+     * @param request The HTTP servlet request
+     * @param response The HTTP servlet response
+     * @param chain The filter chain
+     * @throws ServletException if an exception occurs that interferes with the filter chain's normal operation
+     * @throws IOException if an I/O error occurs during the processing
+     */
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain chain) throws ServletException, IOException {
+
+        String requestCoding;
+        String responseCoding;
+        HttpServletRequest filteredRequest;
+        CompressingResponseWrapper responseWrapper;
+
+        if (response instanceof CompressingResponseWrapper) {
+            responseWrapper = (CompressingResponseWrapper) response;
+
+            try {
+
+                chain.doFilter(request, responseWrapper);
+            }
+            finally {
+
+                if (isAsyncStarted(request) == false) {
+                    responseWrapper.finish();
+                }
+
+            }
+
+            return;
+        }
+
+        requestCoding = CompressionCodec.getCoding(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+        filteredRequest = (requestCoding == null) ? request : new DecompressingRequestWrapper(request, requestCoding);
+
+        responseCoding = CompressionCodec.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        if (responseCoding == null) {
+
+            try {
+
+                chain.doFilter(filteredRequest, response);
+            }
+            catch (IOException | ServletException exception) {
+                rejectRequest(response, exception);
+            }
+
+            return;
+        }
+
+        responseWrapper = new CompressingResponseWrapper(response, responseCoding);
+
+        try {
+
+            chain.doFilter(filteredRequest, responseWrapper);
+        }
+        catch (IOException | ServletException exception) {
+            rejectRequest(responseWrapper, exception);
+        }
+        finally {
+
+            if (isAsyncStarted(request) == false) {
+                responseWrapper.finish();
+            }
+
+        }
+
+    }
+
+    /**
+     * Answer request with HTTP status 413 if the exception was raised because the decompressed
+     * request body exceeds the decompression limit, and the response has not been committed.
+     * This covers request bodies which are not read by a message converter.
+     * @param response The HTTP servlet response
+     * @param exception The exception
+     * @throws ServletException if the exception is not caused by the decompression limit
+     * @throws IOException if the exception is not caused by the decompression limit
+     */
+    private void rejectRequest(
+        final HttpServletResponse response,
+        final Exception exception) throws ServletException, IOException {
+
+        if ((isRequestTooLarge(exception) == false) || (response.isCommitted() == true)) {
+
+            if (exception instanceof ServletException) {
+                throw (ServletException) exception;
+            }
+
+            throw (IOException) exception;
+        }
+
+        response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+
+    /**
+     * Check whether exception was raised because a decompressed request body exceeds the
+     * decompression limit.
+     * @param exception The exception
+     * @return true if the exception or one of its causes is a {@code RequestTooLargeException}, false otherwise
+     */
+    static boolean isRequestTooLarge(
+        final Throwable exception) {
+
+        for (Throwable cause = exception; cause != null; cause = (cause.getCause() == cause) ? null : cause.getCause()) {
+
+            if (cause instanceof RequestTooLargeException) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Filter asynchronous dispatches, so that the response of an asynchronous request is
+     * finished when the asynchronous processing completes.
+     * @return false
+     */
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Check whether content type is worth compressing.
+     * @param contentType The content type
+     * @return true if the content type is textual, false otherwise
+     */
+    private static boolean isCompressible(
+        final String contentType) {
+
+        String type;
+
+        if (contentType == null) {
+            return false;
+        }
+
+        type = contentType.toLowerCase();
+
+        return (type.startsWith("text/") == true) || (type.contains("json") == true) || (type.contains("xml") == true)
+            || (type.startsWith("application/javascript") == true);
+    }
+
+    /**
+     * Wraps the servlet request to decompress the request body.
+     */
+    private final class DecompressingRequestWrapper extends javax.servlet.http.HttpServletRequestWrapper {
+
+        private final String coding;
+
+        private ServletInputStream inputStream;
+
+        private DecompressingRequestWrapper(
+            final HttpServletRequest request,
+            final String coding) {
+
+            super(request);
+
+            this.coding = coding;
+        }
+
+        public ServletInputStream getInputStream() throws IOException {
+
+            if (inputStream == null) {
+                inputStream = new DecompressingStream(super.getInputStream(), coding);
+            }
+
+            return inputStream;
+        }
+
+        public String getHeader(
+            final String name) {
+            return (isContentHeader(name) == true) ? null : super.getHeader(name);
+        }
+
+        public Enumeration<String> getHeaders(
+            final String name) {
+            return (isContentHeader(name) == true) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        public int getIntHeader(
+            final String name) {
+            return (isContentHeader(name) == true) ? -1 : super.getIntHeader(name);
+        }
+
+        public int getContentLength() {
+            return -1;
+        }
+
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        private boolean isContentHeader(
+            final String name) {
+            return (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) == true) || (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) == true);
+        }
+
+    }
+
+    /**
+     * Input stream which decompresses the request body, and which fails when the decompressed
+     * request body exceeds the decompression limit.  The decompressing stream is created when
+     * the request body is first read, so that nothing is read from the request before a read
+     * listener may be set.
+     */
+    private final class DecompressingStream extends ServletInputStream {
+
+        private final ServletInputStream source;
+
+        private final String coding;
+
+        private InputStream content;
+
+        private long count;
+
+        private boolean ready;
+
+        private boolean finished;
+
+        private DecompressingStream(
+            final ServletInputStream source,
+            final String coding) {
+
+            super();
+
+            this.source = source;
+
+            this.coding = coding;
+
+            this.ready = true;
+        }
+
+        public boolean isReady() {
+            return ready;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public int read() throws IOException {
+
+            int result;
+
+            result = getContent().read();
+
+            return (update((result == -1) ? -1 : 1) == -1) ? -1 : result;
+        }
+
+        public int read(
+            final byte[] bytes,
+            final int offset,
+            final int length) throws IOException {
+            return update(getContent().read(bytes, offset, length));
+        }
+
+        /**
+         * Receive the compressed request body in full with non-blocking I/O, and then let the
+         * read listener read the decompressed request body, which no longer blocks.
+         * @param readListener The read listener
+         */
+        public void setReadListener(
+            final ReadListener readListener) {
+
+            final ByteArrayOutputStream compressed;
+
+            if (content != null) {
+                throw new IllegalStateException("The request body has already been read.");
+            }
+
+            compressed = new ByteArrayOutputStream();
+            ready = false;
+
+            source.setReadListener(new ReadListener() {
+
+                public void onDataAvailable() throws IOException {
+
+                    byte[] bytes = new byte[8192];
+                    int length;
+
+                    while ((source.isReady() == true) && ((length = source.read(bytes)) != -1)) {
+                        compressed.write(bytes, 0, length);
+                    }
+
+                }
+
+                public void onAllDataRead() throws IOException {
+
+                    content = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()), coding);
+                    ready = true;
+
+                    readListener.onDataAvailable();
+
+                    if (finished == true) {
+                        readListener.onAllDataRead();
+                    }
+
+                }
+
+                public void onError(
+                    final Throwable throwable) {
+                    readListener.onError(throwable);
+                }
+
+            });
+
+        }
+
+        public void close() throws IOException {
+
+            if (content != null) {
+                content.close();
+            }
+
+        }
+
+        /**
+         * Get decompressing stream.
+         * @return The decompressing stream
+         * @throws IOException if unable to read the header of the compressed request body
+         */
+        private InputStream getContent() throws IOException {
+
+            if (ready == false) {
+                throw new IllegalStateException("The request body is not ready to be read.");
+            }
+
+            if (content == null) {
+                content = codec.decompress(source, coding);
+            }
+
+            return content;
+        }
+
+        /**
+         * Count decompressed bytes, and close the decompressing stream at the end of the request body.
+         * @param result The number of bytes that were read, or -1 at the end of the request body
+         * @return The number of bytes that were read, or -1 at the end of the request body
+         * @throws IOException if the decompressed request body exceeds the decompression limit
+         */
+        private int update(
+            final int result) throws IOException {
+
+            if (result == -1) {
+                finished = true;
+                content.close();
+
+                return result;
+            }
+
+            count += result;
+
+            if (count > decompressionLimit) {
+                throw new RequestTooLargeException("The decompressed request body exceeds " + decompressionLimit + " bytes.");
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * Wraps the servlet response to buffer the response body until it exceeds the compression
+     * threshold, after which the response body is compressed.
+     */
+    private final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final String coding;
+
+        private final ByteArrayOutputStream buffer;
+
+        private OutputStream target;
+
+        private ServletOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        private ServletOutputStream nonBlockingStream;
+
+        private long contentLength;
+
+        private boolean finished;
+
+        private CompressingResponseWrapper(
+            final HttpServletResponse response,
+            final String coding) {
+
+            super(response);
+
+            this.coding = coding;
+
+            this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+
+            this.contentLength = -1;
+        }
+
+        public ServletOutputStream getOutputStream() throws IOException {
+
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called on this response.");
+            }
+
+            if (outputStream == null) {
+                outputStream = new BufferingStream();
+            }
+
+            return outputStream;
+        }
+
+        public PrintWriter getWriter() throws IOException {
+
+            if (writer != null) {
+                return writer;
+            }
+
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called on this response.");
+            }
+
+            outputStream = new BufferingStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+
+            return writer;
+        }
+
+        public void setContentLength(
+            final int length) {
+            setContentLengthLong(length);
+        }
+
+        public void setContentLengthLong(
+            final long length) {
+
+            if ((target == null) && (finished == false)) {
+                contentLength = length;
+            }
+
+        }
+
+        public void setHeader(
+            final String name,
+            final String value) {
+
+            if ((HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) == true) && (value != null)) {
+                setContentLengthLong(Long.parseLong(value));
+
+                return;
+            }
+
+            super.setHeader(name, value);
+        }
+
+        public void addHeader(
+            final String name,
+            final String value) {
+
+            if ((HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) == true) && (value != null)) {
+                setContentLengthLong(Long.parseLong(value));
+
+                return;
+            }
+
+            super.addHeader(name, value);
+        }
+
+        public void flushBuffer() throws IOException {
+
+            if (writer != null) {
+                writer.flush();
+            }
+
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+
+            super.flushBuffer();
+        }
+
+        public void resetBuffer() {
+
+            if (target != null) {
+                throw new IllegalStateException("Response has already been committed.");
+            }
+
+            buffer.reset();
+
+            super.resetBuffer();
+        }
+
+        public void reset() {
+
+            resetBuffer();
+
+            contentLength = -1;
+
+            super.reset();
+        }
+
+        /**
+         * Write the buffered response body if it has not been written, and finish the
+         * compressed response body if it has been compressed.
+         * @throws IOException if unable to write the response body
+         */
+        private void finish() throws IOException {
+
+            if (finished == true) {
+                return;
+            }
+
+            if (writer != null) {
+                writer.flush();
+            }
+
+            if ((target == null) && (outputStream == null)) {
+
+                if ((contentLength >= 0) && (getResponse().isCommitted() == false)) {
+                    getResponse().setContentLengthLong(contentLength);
+                }
+
+            }
+            else if (target == null) {
+                writeUncompressed(true);
+            }
+
+            finished = true;
+
+            if (target != null) {
+                target.close();
+            }
+
+        }
+
+        /**
+         * Decide how to send the response body, once the buffered response body exceeds the
+         * compression threshold or must be flushed.
+         * @param compress true if the response body exceeds the compression threshold, false otherwise
+         * @throws IOException if unable to write the buffered response body
+         */
+        private void commit(
+            final boolean compress) throws IOException {
+
+            HttpServletResponse response;
+
+            response = (HttpServletResponse) getResponse();
+
+            if ((compress == false) || (response.isCommitted() == true)
+                || (response.containsHeader(HttpHeaders.CONTENT_ENCODING) == true)
+                || (isCompressible(response.getContentType()) == false)) {
+                writeUncompressed(false);
+
+                return;
+            }
+
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, coding);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            target = codec.compress(new NonClosingStream(response.getOutputStream()), coding);
+            buffer.writeTo(target);
+            buffer.reset();
+        }
+
+        /**
+         * Write the buffered response body without compression.  The size of the buffered
+         * response body is only used as the content length when the buffer holds the complete
+         * response body.  When the buffer is written early, because the response body must be
+         * flushed or is not compressed, then only a content length that was set by the
+         * application is passed on, and otherwise the response body is sent chunked.
+         * @param complete true if the buffer holds the complete response body, false otherwise
+         * @throws IOException if unable to write the buffered response body
+         */
+        private void writeUncompressed(
+            final boolean complete) throws IOException {
+
+            HttpServletResponse response;
+
+            response = (HttpServletResponse) getResponse();
+
+            if ((finished == false) && (response.isCommitted() == false)) {
+
+                if (contentLength >= 0) {
+                    response.setContentLengthLong(contentLength);
+                }
+                else if (complete == true) {
+                    response.setContentLengthLong(buffer.size());
+                }
+
+            }
+
+            target = new NonClosingStream(response.getOutputStream());
+
+            if (buffer.size() > 0) {
+                buffer.writeTo(target);
+                buffer.reset();
+            }
+
+        }
+
+        /**
+         * Output stream which buffers the response body until the compression threshold is exceeded.
+         */
+        private final class BufferingStream extends ServletOutputStream {
+
+            public void write(
+                final int value) throws IOException {
+
+                if (target != null) {
+                    target.write(value);
+
+                    return;
+                }
+
+                buffer.write(value);
+
+                if (buffer.size() > threshold) {
+                    commit(true);
+                }
+
+            }
+
+            public void write(
+                final byte[] bytes,
+                final int offset,
+                final int length) throws IOException {
+
+                if (target != null) {
+                    target.write(bytes, offset, length);
+
+                    return;
+                }
+
+                if (buffer.size() + length > threshold) {
+                    commit(true);
+                    target.write(bytes, offset, length);
+
+                    return;
+                }
+
+                buffer.write(bytes, offset, length);
+            }
+
+            public void flush() throws IOException {
+
+                if (target == null) {
+                    commit(buffer.size() > threshold);
+                }
+
+                target.flush();
+            }
+
+            public void close() throws IOException {
+                finish();
+            }
+
+            public boolean isReady() {
+                return (nonBlockingStream == null) || (nonBlockingStream.isReady() == true);
+            }
+
+            /**
+             * Write the response body without compression to the output stream of the response,
+             * on which the write listener is set.
+             * @param writeListener The write listener
+             */
+            public void setWriteListener(
+                final WriteListener writeListener) {
+
+                if ((target != null) || (buffer.size() > 0)) {
+                    throw new IllegalStateException("The response body has already been written.");
+                }
+
+                try {
+
+                    nonBlockingStream = getResponse().getOutputStream();
+                    writeUncompressed(false);
+                }
+                catch (IOException exception) {
+                    throw new IllegalStateException("Failed to write the response body: " + exception.getMessage(), exception);
+                }
+
+                nonBlockingStream.setWriteListener(writeListener);
+            }
+
+        }
+
+    }
+
+    /**
+     * Output stream which leaves the underlying servlet output stream open, so that the
+     * servlet container remains responsible for closing it.
+     */
+    private static final class NonClosingStream extends OutputStream {
+
+        private final OutputStream outputStream;
+
+        private NonClosingStream(
+            final OutputStream outputStream) {
+
+            super();
+
+            this.outputStream = outputStream;
+        }
+
+        public void write(
+            final int value) throws IOException {
+            outputStream.write(value);
+        }
+
+        public void write(
+            final byte[] bytes,
+            final int offset,
+            final int length) throws IOException {
+            outputStream.write(bytes, offset, length);
+        }
+
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        public void close() throws IOException {
+            outputStream.flush();
+        }
+
+    }
+
+
+    /**
+     * Exception which is raised when a decompressed request body exceeds the decompression limit.
+     */
+    static final class RequestTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private RequestTooLargeException(
+            final String message) {
+
+            super(message);
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implements an adaptive limit on the number of HTTP REST requests which may be in flight
+ * at the same time.
+ * <p>
+ * The limit is adjusted with an AIMD (additive increase, multiplicative decrease) algorithm.
+ * Whenever a request completes within the latency threshold while the limiter is at least
+ * half utilized, the limit grows by {@code 1/limit}, which amounts to roughly one additional
+ * request per round of requests.  Whenever a request exceeds the latency threshold, or is
+ * rejected downstream because the service is overloaded, the limit shrinks by the backoff ratio.
+ * @author Melior
+ * @since 2.3
+ */
+final class ConcurrencyLimiter {
+
+    private int minimumLimit;
+
+    private int maximumLimit;
+
+    private long latencyThreshold;
+
+    private double backoffRatio;
+
+    private AtomicInteger inFlight;
+
+    private AtomicLong limit;
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     */
+    ConcurrencyLimiter(
+        final RestServiceConfig configuration) {
+
+        super();
+
+        this.minimumLimit = Math.max(1, configuration.getLoadSheddingMinimumLimit());
+
+        this.maximumLimit = Math.max(minimumLimit, configuration.getLoadSheddingMaximumLimit());
+
+        this.latencyThreshold = TimeUnit.MILLISECONDS.toNanos(configuration.getLoadSheddingLatencyThreshold());
+
+        this.backoffRatio = configuration.getLoadSheddingBackoffRatio();
+
+        this.inFlight = new AtomicInteger();
+
+        this.limit = new AtomicLong(Double.doubleToLongBits(Math.min(maximumLimit,
+            Math.max(minimumLimit, configuration.getLoadSheddingInitialLimit()))));
+    }
+
+    /**
+     * Try to acquire a permit for a request.
+     * @return true if the request may proceed, false if the request must be rejected
+     */
+    boolean tryAcquire() {
+
+        int current;
+
+        for (;;) {
+            current = inFlight.get();
+
+            if (current >= getLimit()) {
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1) == true) {
+                return true;
+            }
+
+        }
+
+    }
+
+    /**
+     * Release the permit of a request and adjust the limit.
+     * @param latency The latency of the request in nanoseconds
+     * @param overloaded true if the request was rejected downstream because the service is overloaded, false otherwise
+     */
+    void release(
+        final long latency,
+        final boolean overloaded) {
+
+        int current;
+        long bits;
+        double value;
+        double newValue;
+
+        current = inFlight.getAndDecrement();
+
+        do {
+            bits = limit.get();
+            value = Double.longBitsToDouble(bits);
+
+            if ((overloaded == true) || (latency > latencyThreshold)) {
+                newValue = Math.max(minimumLimit, value * backoffRatio);
+            }
+            else if ((current * 2) >= value) {
+                newValue = Math.min(maximumLimit, value + (1.0 / value));
+            }
+            else {
+                return;
+            }
+
+        }
+        while (limit.compareAndSet(bits, Double.doubleToLongBits(newValue)) == false);
+
+    }
+
+    /**
+     * Get current limit.
+     * @return The current limit
+     */
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    /**
+     * Get number of requests in flight.
+     * @return The number of requests in flight
+     */
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+}
@@ -26,7 +26,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * @since 2.3
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @ConditionalOnProperty(name = "server.request.disable-dtd", havingValue = "true")
 public class DTDDisablingFilter extends OncePerRequestFilter {
 
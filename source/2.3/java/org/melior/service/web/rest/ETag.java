@@ -0,0 +1,42 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code Controller} method which handles HTTP GET requests as one for which
+ * the REST service harness generates a strong entity tag.  The entity tag is returned
+ * in the "ETag" header of the response, and a request with a matching "If-None-Match"
+ * header is answered with HTTP status 304 and no body.
+ * <p>
+ * If the response body implements {@code VersionedPayload}, then the entity tag is
+ * derived from the version of the response body.  Otherwise the entity tag is a hash
+ * of the serialized response body.
+ * @author Melior
+ * @since 2.3
+ * @see VersionedPayload
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ETag {
+
+    /**
+     * Whether to cache the serialized response body per entity tag, so that repeat
+     * responses for the same version are sent without serializing the body again.
+     * Only applies to response bodies which implement {@code VersionedPayload}.
+     * @return true if the serialized response body should be cached, false otherwise
+     */
+    boolean cache() default false;
+
+}
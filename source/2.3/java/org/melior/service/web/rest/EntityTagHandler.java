@@ -0,0 +1,379 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Generates strong entity tags for the responses of {@code Controller} methods which are
+ * annotated with {@code ETag}, and answers requests with a matching "If-None-Match" header
+ * with HTTP status 304 and no body.
+ * <p>
+ * When the entity tag is a hash of the serialized response body, then the body is serialized
+ * once with the object mapper of the selected message converter, and the serialized bytes are
+ * written to the response directly, so that the body is not serialized a second time.
+ * The serialized body of a versioned payload is cached by the raw request URI, including
+ * the query, the negotiated content type and the entity tag.
+ * @author Melior
+ * @since 2.3
+ * @see ETag
+ */
+class EntityTagHandler {
+
+    private ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    private int cacheSize;
+
+    private ConcurrentHashMap<Class<?>, ObjectMapper> objectMappers;
+
+    private ConcurrentHashMap<String, CachedBody> cache;
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     * @param handlerAdapter The handler adapter which holds the message converters
+     */
+    EntityTagHandler(
+        final RestServiceConfig configuration,
+        final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+
+        super();
+
+        this.handlerAdapter = handlerAdapter;
+
+        this.cacheSize = configuration.getEtagCacheSize();
+
+        this.objectMappers = new ConcurrentHashMap<Class<?>, ObjectMapper>();
+
+        this.cache = new ConcurrentHashMap<String, CachedBody>();
+    }
+
+    /**
+     * Process response body of a {@code Controller} method which is annotated with {@code ETag}.
+     * @param body The response body
+     * @param returnType The return type
+     * @param contentType The content type
+     * @param converterType The converter type
+     * @param request The request
+     * @param response The response
+     * @return The response body, or {@code null} if the response has already been written
+     */
+    Object process(
+        final Object body,
+        final MethodParameter returnType,
+        final MediaType contentType,
+        final Class<? extends HttpMessageConverter<?>> converterType,
+        final ServerHttpRequest request,
+        final ServerHttpResponse response) {
+
+        ETag annotation;
+        String version;
+        String entityTag;
+        String key;
+        CachedBody cachedBody;
+        byte[] bytes;
+
+        if ((body == null) || (request.getMethod() != HttpMethod.GET)) {
+            return body;
+        }
+
+        annotation = returnType.getMethodAnnotation(ETag.class);
+
+        if (annotation == null) {
+            return body;
+        }
+
+        version = (body instanceof VersionedPayload) ? ((VersionedPayload) body).getVersion() : null;
+
+        if (version != null) {
+            entityTag = "\"" + version + "\"";
+
+            if (matches(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), entityTag) == true) {
+                return notModified(response, entityTag);
+            }
+
+            if ((annotation.cache() == false) || (body instanceof MappingJacksonValue)) {
+                response.getHeaders().set(HttpHeaders.ETAG, entityTag);
+
+                return body;
+            }
+
+            key = request.getURI().getRawPath() + ((request.getURI().getRawQuery() == null) ? "" : "?" + request.getURI().getRawQuery())
+                + " " + contentType + " " + entityTag;
+            cachedBody = cache.get(key);
+
+            if (cachedBody != null) {
+                return write(response, entityTag, cachedBody.contentType, cachedBody.bytes);
+            }
+
+            bytes = serialize(body, contentType, converterType);
+
+            if (bytes == null) {
+                response.getHeaders().set(HttpHeaders.ETAG, entityTag);
+
+                return body;
+            }
+
+            if (cache.size() >= cacheSize) {
+                cache.clear();
+            }
+
+            cache.put(key, new CachedBody(contentType, bytes));
+
+            return write(response, entityTag, contentType, bytes);
+        }
+
+        bytes = serialize(body, contentType, converterType);
+
+        if (bytes == null) {
+            return body;
+        }
+
+        entityTag = hash(bytes);
+
+        if (matches(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH), entityTag) == true) {
+            return notModified(response, entityTag);
+        }
+
+        return write(response, entityTag, contentType, bytes);
+    }
+
+    /**
+     * Serialize response body in the same way as the selected message converter.
+     * @param body The response body
+     * @param contentType The content type
+     * @param converterType The converter type
+     * @return The serialized response body, or {@code null} if the body cannot be serialized here
+     */
+    private byte[] serialize(
+        final Object body,
+        final MediaType contentType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ObjectMapper objectMapper;
+        Charset charset;
+
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+
+        if (body instanceof String) {
+            charset = (contentType.getCharset() != null) ? contentType.getCharset()
+                : (contentType.isCompatibleWith(MediaType.APPLICATION_JSON) == true) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+
+            return ((String) body).getBytes(charset);
+        }
+
+        if (body instanceof MappingJacksonValue) {
+            return null;
+        }
+
+        objectMapper = getObjectMapper(converterType);
+
+        if (objectMapper == null) {
+            return null;
+        }
+
+        try {
+
+            return objectMapper.writeValueAsBytes(body);
+        }
+        catch (Exception exception) {
+            throw new HttpMessageNotWritableException("Failed to serialize response: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Get object mapper of message converter.
+     * @param converterType The converter type
+     * @return The object mapper, or {@code null} if the converter does not use an object mapper
+     */
+    private ObjectMapper getObjectMapper(
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ObjectMapper objectMapper;
+        RequestMappingHandlerAdapter adapter;
+
+        objectMapper = objectMappers.get(converterType);
+
+        if ((objectMapper != null) || (handlerAdapter == null)) {
+            return objectMapper;
+        }
+
+        adapter = handlerAdapter.getIfAvailable();
+
+        if (adapter == null) {
+            return null;
+        }
+
+        for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+
+            if (converter.getClass() != converterType) {
+                continue;
+            }
+
+            if (converter instanceof org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter) {
+                objectMapper = ((org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+            }
+            else if (converter instanceof org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) {
+                objectMapper = ((org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+            }
+            else {
+                return null;
+            }
+
+            objectMappers.put(converterType, objectMapper);
+
+            return objectMapper;
+        }
+
+        return null;
+    }
+
+    /**
+     * Answer request with HTTP status 304.  The status and the headers are flushed to the
+     * response here, because no body is written for a {@code null} body, so the response
+     * would otherwise be sent without the entity tag.
+     * @param response The response
+     * @param entityTag The entity tag
+     * @return {@code null}, to indicate that the response has been written
+     */
+    private Object notModified(
+        final ServerHttpResponse response,
+        final String entityTag) {
+
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().set(HttpHeaders.ETAG, entityTag);
+
+        try {
+
+            response.flush();
+        }
+        catch (Exception exception) {
+            throw new HttpMessageNotWritableException("Failed to write response: " + exception.getMessage(), exception);
+        }
+
+        return null;
+    }
+
+    /**
+     * Write serialized response body to response.
+     * @param response The response
+     * @param entityTag The entity tag
+     * @param contentType The content type
+     * @param bytes The serialized response body
+     * @return {@code null}, to indicate that the response has been written
+     */
+    private Object write(
+        final ServerHttpResponse response,
+        final String entityTag,
+        final MediaType contentType,
+        final byte[] bytes) {
+
+        HttpHeaders headers;
+
+        headers = response.getHeaders();
+        headers.setContentType(contentType);
+        headers.setContentLength(bytes.length);
+        headers.set(HttpHeaders.ETAG, entityTag);
+
+        try {
+
+            response.getBody().write(bytes);
+            response.flush();
+        }
+        catch (Exception exception) {
+            throw new HttpMessageNotWritableException("Failed to write response: " + exception.getMessage(), exception);
+        }
+
+        return null;
+    }
+
+    /**
+     * Check whether entity tag matches "If-None-Match" header.
+     * @param ifNoneMatch The value of the "If-None-Match" header
+     * @param entityTag The entity tag
+     * @return true if the entity tag matches, false otherwise
+     */
+    private static boolean matches(
+        final String ifNoneMatch,
+        final String entityTag) {
+
+        String candidate;
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String token : ifNoneMatch.split(",")) {
+            candidate = token.trim();
+
+            if (("*".equals(candidate) == true) || (entityTag.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate) == true)) {
+                return true;
+            }
+
+        }
+
+        return false;
+    }
+
+    /**
+     * Generate entity tag from 64-bit FNV-1a hash and length of serialized response body.
+     * @param bytes The serialized response body
+     * @return The entity tag
+     */
+    private static String hash(
+        final byte[] bytes) {
+
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < bytes.length; i++) {
+            hash ^= (bytes[i] & 0xFF);
+            hash *= 0x100000001b3L;
+        }
+
+        return "\"" + Long.toHexString(hash) + "-" + Integer.toHexString(bytes.length) + "\"";
+    }
+
+    /**
+     * A serialized response body.
+     */
+    private static final class CachedBody {
+
+        private final MediaType contentType;
+
+        private final byte[] bytes;
+
+        private CachedBody(
+            final MediaType contentType,
+            final byte[] bytes) {
+
+            this.contentType = contentType;
+
+            this.bytes = bytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * A sparse fieldset, which selects the fields of a response that are written.  The fieldset
+ * is a comma separated list of field paths, where the names in a path are separated by a dot
+ * or a slash, and where the fields of an object may be grouped in parentheses, for example
+ * {@code id,customer.name,items(sku,quantity)}.  A selected field is written with all of its
+ * nested fields, and the fields of the elements of an array are selected as if the elements
+ * were the array itself.
+ * <p>
+ * A fieldset is parsed once, into a tree of field names with a property filter which only
+ * looks up the field names while the response is written, so a parsed fieldset may be cached
+ * and shared between requests.  The parser is lenient, so that a malformed fieldset selects
+ * what it can rather than failing the request.
+ * @author Melior
+ * @since 2.3
+ */
+class FieldSet {
+
+    static final String FILTER_ID = FieldSet.class.getName();
+
+    private Map<String, FieldSet> fields;
+
+    private PropertyFilter filter;
+
+    /**
+     * Constructor.
+     */
+    private FieldSet() {
+
+        super();
+
+        this.fields = new HashMap<String, FieldSet>();
+    }
+
+    /**
+     * Parse fieldset.
+     * @param expression The fieldset expression
+     * @return The fieldset
+     */
+    static FieldSet parse(
+        final String expression) {
+
+        FieldSet fieldSet;
+
+        fieldSet = new FieldSet();
+        fieldSet.parse(expression, 0);
+        fieldSet.filter = new Filter(fieldSet);
+
+        return fieldSet;
+    }
+
+    /**
+     * Parse the fields of a group of the fieldset expression into this fieldset.
+     * @param expression The fieldset expression
+     * @param start The index at which the group starts
+     * @return The index after the end of the group
+     */
+    private int parse(
+        final String expression,
+        final int start) {
+
+        FieldSet fieldSet = this;
+        int nameStart = start;
+        int index;
+        char character;
+
+        for (index = start; index < expression.length(); index++) {
+            character = expression.charAt(index);
+
+            if ((character != ',') && (character != '.') && (character != '/') && (character != '(') && (character != ')')) {
+                continue;
+            }
+
+            fieldSet = fieldSet.add(expression.substring(nameStart, index).trim());
+
+            if (character == '(') {
+                index = fieldSet.parse(expression, index + 1);
+            }
+
+            if ((character == ',') || (character == '(')) {
+                fieldSet = this;
+            }
+
+            nameStart = index + 1;
+
+            if (character == ')') {
+                return index;
+            }
+
+        }
+
+        fieldSet.add(expression.substring(Math.min(nameStart, expression.length())).trim());
+
+        return index;
+    }
+
+    /**
+     * Add field to this fieldset.
+     * @param name The field name
+     * @return The fieldset of the nested fields of the field, or this fieldset if the name is empty
+     */
+    private FieldSet add(
+        final String name) {
+
+        return (name.isEmpty() == true) ? this : fields.computeIfAbsent(name, key -> new FieldSet());
+    }
+
+    /**
+     * Check whether all fields are selected, which is the case for the nested fields of a
+     * field that is selected without naming any of its nested fields.
+     * @return true if all fields are selected, false otherwise
+     */
+    boolean isComplete() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Get property filter of this fieldset.
+     * @return The property filter
+     */
+    PropertyFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Property filter which writes only the selected fields.  The fieldset of an object is
+     * found by following the field names of the enclosing objects from the root of the
+     * response, skipping any enclosing arrays.
+     */
+    private static final class Filter extends SimpleBeanPropertyFilter {
+
+        private FieldSet root;
+
+        private Filter(
+            final FieldSet root) {
+
+            super();
+
+            this.root = root;
+        }
+
+        public void serializeAsField(
+            final Object pojo,
+            final JsonGenerator generator,
+            final SerializerProvider provider,
+            final PropertyWriter writer) throws Exception {
+
+            FieldSet fieldSet;
+
+            fieldSet = getFieldSet(generator.getOutputContext());
+
+            if ((fieldSet == null) || (fieldSet.isComplete() == true) || (fieldSet.fields.containsKey(writer.getName()) == true)) {
+                writer.serializeAsField(pojo, generator, provider);
+            }
+            else if (generator.canOmitFields() == false) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+
+        }
+
+        private FieldSet getFieldSet(
+            final JsonStreamContext context) {
+
+            JsonStreamContext parent;
+            FieldSet fieldSet;
+
+            parent = context.getParent();
+
+            while ((parent != null) && (parent.inArray() == true)) {
+                parent = parent.getParent();
+            }
+
+            if ((parent == null) || (parent.inRoot() == true)) {
+                return root;
+            }
+
+            fieldSet = getFieldSet(parent);
+
+            return ((fieldSet == null) || (fieldSet.isComplete() == true)) ? fieldSet : fieldSet.fields.get(parent.getCurrentName());
+        }
+
+    }
+
+}
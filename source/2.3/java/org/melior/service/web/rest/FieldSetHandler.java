@@ -0,0 +1,299 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+
+/**
+ * Applies the sparse fieldset which is requested with the configured query parameter or
+ * header to the response body, so that only the selected fields are written.
+ * <p>
+ * The object mappers of the Jackson message converters are prepared once, so that every
+ * POJO that is serialized as a bean refers to the property filter of the fieldsets.  When
+ * no fieldset is requested, then the filter is not found and the POJO is serialized as
+ * usual.  When a fieldset is requested, then the parsed fieldset is taken from a cache and
+ * its filter is passed to the message converter with the response body, so that nothing
+ * is introspected while the response is written.
+ * <p>
+ * The filter provider which is passed with the response body only provides the filter of
+ * the fieldsets itself, and delegates all other property filters to the filter provider
+ * of the response body, if the controller returns one, or otherwise to the filter provider
+ * of the object mapper of the message converter, so that the property filters of the
+ * application are still applied.
+ * @author Melior
+ * @since 2.3
+ * @see FieldSet
+ */
+class FieldSetHandler {
+
+    private String parameterName;
+
+    private String headerName;
+
+    private int cacheSize;
+
+    private Map<String, FieldSet> cache;
+
+    private ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    private Map<Class<?>, FilterProvider> filterProviders;
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     * @param handlerAdapter The handler adapter which holds the message converters
+     */
+    FieldSetHandler(
+        final RestServiceConfig configuration,
+        final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+
+        super();
+
+        this.parameterName = configuration.getFieldsParameter();
+
+        this.headerName = configuration.getFieldsHeader();
+
+        this.cacheSize = configuration.getFieldsCacheSize();
+
+        this.cache = new ConcurrentHashMap<String, FieldSet>();
+
+        this.handlerAdapter = handlerAdapter;
+
+        this.filterProviders = new ConcurrentHashMap<Class<?>, FilterProvider>();
+    }
+
+    /**
+     * Prepare object mapper for sparse fieldsets.
+     * @param objectMapper The object mapper
+     */
+    static void prepare(
+        final ObjectMapper objectMapper) {
+
+        FilterProvider filterProvider;
+
+        filterProvider = objectMapper.getSerializationConfig().getFilterProvider();
+
+        if (filterProvider instanceof FieldSetFilterProvider) {
+            return;
+        }
+
+        objectMapper.setConfig(objectMapper.getSerializationConfig().with(AnnotationIntrospector.pair(
+            objectMapper.getSerializationConfig().getAnnotationIntrospector(), new FilterIdIntrospector())));
+        objectMapper.setFilterProvider(new FieldSetFilterProvider(null, filterProvider));
+    }
+
+    /**
+     * Apply requested fieldset to response body.
+     * @param body The response body
+     * @param converterType The converter type
+     * @param request The request
+     * @return The response body, with the property filter of the fieldset if one is requested, and
+     * with the property filters of the response body otherwise
+     */
+    Object process(
+        final Object body,
+        final Class<? extends HttpMessageConverter<?>> converterType,
+        final ServerHttpRequest request) {
+
+        String expression;
+        FieldSet fieldSet;
+        MappingJacksonValue value;
+
+        if ((body == null) || (body instanceof ExceptionPayload)
+            || ((org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) == false)
+                && (org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) == false))) {
+            return body;
+        }
+
+        expression = getExpression(request);
+
+        if (StringUtils.hasText(expression) == false) {
+
+            if ((body instanceof MappingJacksonValue) && (((MappingJacksonValue) body).getFilters() != null)
+                && ((((MappingJacksonValue) body).getFilters() instanceof FieldSetFilterProvider) == false)) {
+                value = (MappingJacksonValue) body;
+                value.setFilters(new FieldSetFilterProvider(null, value.getFilters()));
+            }
+
+            return body;
+        }
+
+        fieldSet = cache.get(expression);
+
+        if (fieldSet == null) {
+
+            if (cache.size() >= cacheSize) {
+                cache.clear();
+            }
+
+            fieldSet = cache.computeIfAbsent(expression, FieldSet::parse);
+        }
+
+        value = (body instanceof MappingJacksonValue) ? (MappingJacksonValue) body : new MappingJacksonValue(body);
+        value.setFilters(new FieldSetFilterProvider(fieldSet.getFilter(),
+            (value.getFilters() != null) ? value.getFilters() : getFilterProvider(converterType)));
+
+        return value;
+    }
+
+    /**
+     * Get filter provider of the object mapper of message converter.
+     * @param converterType The converter type
+     * @return The filter provider, or {@code null} if the converter has no object mapper with a filter provider
+     */
+    private FilterProvider getFilterProvider(
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        FilterProvider filterProvider;
+        RequestMappingHandlerAdapter adapter;
+        ObjectMapper objectMapper;
+
+        filterProvider = filterProviders.get(converterType);
+
+        if ((filterProvider != null) || (handlerAdapter == null)) {
+            return filterProvider;
+        }
+
+        adapter = handlerAdapter.getIfAvailable();
+
+        if (adapter == null) {
+            return null;
+        }
+
+        for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+
+            if (converter.getClass() != converterType) {
+                continue;
+            }
+
+            if (converter instanceof org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter) {
+                objectMapper = ((org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+            }
+            else if (converter instanceof org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) {
+                objectMapper = ((org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+            }
+            else {
+                return null;
+            }
+
+            filterProvider = objectMapper.getSerializationConfig().getFilterProvider();
+
+            if (filterProvider != null) {
+                filterProviders.put(converterType, filterProvider);
+            }
+
+            return filterProvider;
+        }
+
+        return null;
+    }
+
+    /**
+     * Get fieldset expression from request.
+     * @param request The request
+     * @return The fieldset expression, or {@code null} if no fieldset is requested
+     */
+    private String getExpression(
+        final ServerHttpRequest request) {
+
+        String expression = null;
+
+        if ((StringUtils.hasLength(parameterName) == true) && (request instanceof ServletServerHttpRequest)) {
+            expression = ((ServletServerHttpRequest) request).getServletRequest().getParameter(parameterName);
+        }
+
+        if ((expression == null) && (StringUtils.hasLength(headerName) == true)) {
+            expression = request.getHeaders().getFirst(headerName);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Annotation introspector which assigns the property filter of the fieldsets to every
+     * class that is not assigned another property filter.  Maps are excluded, as the map
+     * serializer does not fall back to writing all entries when the filter is not found.
+     */
+    private static final class FilterIdIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        public Object findFilterId(
+            final Annotated annotated) {
+
+            return ((annotated instanceof AnnotatedClass) && (Map.class.isAssignableFrom(annotated.getRawType()) == false))
+                ? FieldSet.FILTER_ID : null;
+        }
+
+    }
+
+    /**
+     * Filter provider which provides the property filter of a fieldset, if any, for the filter
+     * id of the fieldsets, and which delegates other filter ids to another filter provider.
+     * Without a fieldset, POJOs which are assigned the filter id of the fieldsets are not
+     * filtered.  Without another filter provider, other filter ids are not found, as they
+     * would not be without the fieldsets.
+     */
+    private static final class FieldSetFilterProvider extends FilterProvider {
+
+        private PropertyFilter filter;
+
+        private FilterProvider delegate;
+
+        private FieldSetFilterProvider(
+            final PropertyFilter filter,
+            final FilterProvider delegate) {
+
+            super();
+
+            this.filter = filter;
+
+            this.delegate = delegate;
+        }
+
+        @Deprecated
+        public BeanPropertyFilter findFilter(
+            final Object filterId) {
+
+            throw new UnsupportedOperationException("Access to deprecated filters not supported");
+        }
+
+        public PropertyFilter findPropertyFilter(
+            final Object filterId,
+            final Object valueToFilter) {
+
+            if (FieldSet.FILTER_ID.equals(filterId) == true) {
+                return filter;
+            }
+
+            if (delegate == null) {
+                throw new IllegalArgumentException("No filter configured with id '" + filterId + "'");
+            }
+
+            return delegate.findPropertyFilter(filterId, valueToFilter);
+        }
+
+    }
+
+}
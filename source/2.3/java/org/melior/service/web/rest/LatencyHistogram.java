@@ -0,0 +1,129 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in a fixed set of logarithmic buckets.  Bucket {@code n} counts
+ * the latencies of at least {@code 2^(n-1)} and less than {@code 2^n} microseconds,
+ * so percentiles are reported with a relative error of at most a factor of two.
+ * <p>
+ * Recording a latency does not allocate any objects.
+ * @author Melior
+ * @since 2.3
+ */
+final class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private AtomicLongArray buckets;
+
+    private LongAdder count;
+
+    private LongAdder sum;
+
+    private AtomicLong max;
+
+    /**
+     * Constructor.
+     */
+    LatencyHistogram() {
+
+        super();
+
+        this.buckets = new AtomicLongArray(BUCKETS);
+
+        this.count = new LongAdder();
+
+        this.sum = new LongAdder();
+
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Record latency.
+     * @param latency The latency in nanoseconds
+     */
+    void record(
+        final long latency) {
+
+        long micros;
+
+        micros = Math.max(0, latency / 1000);
+
+        buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+        count.increment();
+        sum.add(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Get number of recorded latencies.
+     * @return The number of recorded latencies
+     */
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get sum of recorded latencies.
+     * @return The sum of recorded latencies in microseconds
+     */
+    long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Get maximum recorded latency.
+     * @return The maximum recorded latency in microseconds
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get percentile of recorded latencies.
+     * @param percentile The percentile, between 0 and 1
+     * @return The upper bound of the bucket which contains the percentile, in microseconds
+     */
+    long getPercentile(
+        final double percentile) {
+
+        long total;
+        long threshold;
+        long cumulative;
+
+        total = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        threshold = (long) Math.ceil(total * percentile);
+        cumulative = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += buckets.get(i);
+
+            if (cumulative >= threshold) {
+                return Math.min((1L << i) - 1, getMax());
+            }
+
+        }
+
+        return getMax();
+    }
+
+}
@@ -0,0 +1,127 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.xnio.management.XnioWorkerMXBean;
+
+/**
+ * Implementation of a request filter that serves the metrics of the operations of the
+ * REST service in the Prometheus text exposition format, on the path that is configured
+ * with the {@code server.request.metrics-path} application property.  Requests for the
+ * metrics are served by the filter itself, so they are not recorded as an operation.
+ * @author Melior
+ * @since 2.3
+ * @see RestServiceMetrics
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "server.request.metrics-path")
+public class MetricsEndpointFilter extends OncePerRequestFilter {
+
+    private RestServiceMetrics serviceMetrics;
+
+    private String path;
+
+    /**
+     * Constructor.
+     * @param serviceMetrics The service metrics
+     * @param configuration The service harness configuration
+     */
+    public MetricsEndpointFilter(
+        final RestServiceMetrics serviceMetrics,
+        final RestServiceConfig configuration) {
+
+        super();
+
+        this.serviceMetrics = serviceMetrics;
+
+        this.path = configuration.getMetricsPath();
+    }
+
+    /**
+     * Do not filter requests for any path other than the metrics path.
+     * @param request The HTTP servlet request
+     * @return true if the request is not for the metrics path, false otherwise
+     */
+    protected boolean shouldNotFilter(
+        final HttpServletRequest request) {
+
+        String uri;
+
+        uri = request.getRequestURI();
+
+        return (uri.endsWith(path) == false) || (uri.length() != (request.getContextPath().length() + path.length()));
+    }
+
+    /**
+     * Write the metrics of all operations to the response.
+     * @param request The HTTP servlet request
+     * @param response The HTTP servlet response
+     * @param chain The filter chain
+     * @throws ServletException if an exception occurs that interferes with the filter chain's normal operation
+     * @throws IOException if an I/O error occurs during the processing
+     */
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain chain) throws ServletException, IOException {
+
+        PrintWriter writer;
+        String label;
+        XnioWorkerMXBean worker;
+
+        response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+
+        writer = response.getWriter();
+
+        for (OperationMetrics metrics : serviceMetrics.getOperations()) {
+            label = "operation=\"" + metrics.getOperation().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+
+            writer.append("rest_requests_total{").append(label).append("} ").println(metrics.getRequestCount());
+            writer.append("rest_requests_in_flight{").append(label).append("} ").println(metrics.getInFlight());
+            writer.append("rest_request_duration_seconds{").append(label).append(",quantile=\"0.5\"} ").println(metrics.getP50Latency() / 1000);
+            writer.append("rest_request_duration_seconds{").append(label).append(",quantile=\"0.9\"} ").println(metrics.getP90Latency() / 1000);
+            writer.append("rest_request_duration_seconds{").append(label).append(",quantile=\"0.99\"} ").println(metrics.getP99Latency() / 1000);
+            writer.append("rest_request_duration_seconds_max{").append(label).append("} ").println(metrics.getMaxLatency() / 1000);
+            writer.append("rest_request_duration_seconds_sum{").append(label).append("} ").println(metrics.getMeanLatency() * metrics.getRequestCount() / 1000);
+            writer.append("rest_request_duration_seconds_count{").append(label).append("} ").println(metrics.getRequestCount());
+            writer.append("rest_request_bytes_total{").append(label).append("} ").println(metrics.getRequestBytes());
+            writer.append("rest_response_bytes_total{").append(label).append("} ").println(metrics.getResponseBytes());
+
+            for (Map.Entry<String, Long> entry : metrics.getErrorCounts().entrySet()) {
+                writer.append("rest_request_errors_total{").append(label).append(",type=\"").append(entry.getKey()).append("\"} ").println(entry.getValue());
+            }
+
+        }
+
+        worker = serviceMetrics.getWorker();
+
+        if (worker != null) {
+            writer.append("undertow_worker_queue_size ").println(worker.getWorkerQueueSize());
+            writer.append("undertow_worker_threads_busy ").println(worker.getBusyWorkerThreadCount());
+            writer.append("undertow_worker_threads ").println(worker.getWorkerPoolSize());
+            writer.append("undertow_worker_threads_max ").println(worker.getMaxWorkerPoolSize());
+            writer.append("undertow_io_threads ").println(worker.getIoThreadCount());
+        }
+
+        writer.flush();
+    }
+
+}
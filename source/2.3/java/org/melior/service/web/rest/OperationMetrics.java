@@ -0,0 +1,219 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.melior.service.exception.ExceptionType;
+import io.undertow.server.ExchangeCompletionListener;
+
+/**
+ * The metrics that are recorded for an operation of a REST service.  Recording
+ * the metrics of a request does not allocate any objects.
+ * @author Melior
+ * @since 2.3
+ * @see RestServiceMetrics
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private static final ExceptionType[] EXCEPTION_TYPES = ExceptionType.values();
+
+    private String operation;
+
+    private LatencyHistogram latency;
+
+    private AtomicInteger inFlight;
+
+    private AtomicLongArray errors;
+
+    private LongAdder requestBytes;
+
+    private LongAdder responseBytes;
+
+    private ExchangeCompletionListener responseListener;
+
+    /**
+     * Constructor.
+     * @param operation The operation
+     */
+    OperationMetrics(
+        final String operation) {
+
+        super();
+
+        this.operation = operation;
+
+        this.latency = new LatencyHistogram();
+
+        this.inFlight = new AtomicInteger();
+
+        this.errors = new AtomicLongArray(EXCEPTION_TYPES.length);
+
+        this.requestBytes = new LongAdder();
+
+        this.responseBytes = new LongAdder();
+
+        this.responseListener = (exchange, nextListener) -> {
+            responseBytes.add(exchange.getResponseBytesSent());
+            nextListener.proceed();
+        };
+    }
+
+    /**
+     * Record start of request.
+     */
+    void start() {
+
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Record completion of request.
+     * @param duration The duration of the request in nanoseconds
+     * @param requestSize The size of the request body in bytes, or -1 if unknown
+     * @param exceptionType The exception type if the request failed, {@code null} otherwise
+     */
+    void complete(
+        final long duration,
+        final long requestSize,
+        final ExceptionType exceptionType) {
+
+        inFlight.decrementAndGet();
+
+        latency.record(duration);
+
+        if (requestSize > 0) {
+            requestBytes.add(requestSize);
+        }
+
+        if (exceptionType != null) {
+            errors.incrementAndGet(exceptionType.ordinal());
+        }
+
+    }
+
+    /**
+     * Get listener which records the size of the response body when the exchange completes.
+     * @return The exchange completion listener
+     */
+    ExchangeCompletionListener getResponseListener() {
+        return responseListener;
+    }
+
+    /**
+     * Get operation.
+     * @return The operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Get number of completed requests.
+     * @return The number of completed requests
+     */
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * Get number of requests in flight.
+     * @return The number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get mean latency.
+     * @return The mean latency in milliseconds
+     */
+    public double getMeanLatency() {
+
+        long count;
+
+        count = latency.getCount();
+
+        return (count == 0) ? 0 : (latency.getSum() / 1000.0) / count;
+    }
+
+    /**
+     * Get 50th percentile (median) latency.
+     * @return The 50th percentile latency in milliseconds
+     */
+    public double getP50Latency() {
+        return latency.getPercentile(0.5) / 1000.0;
+    }
+
+    /**
+     * Get 90th percentile latency.
+     * @return The 90th percentile latency in milliseconds
+     */
+    public double getP90Latency() {
+        return latency.getPercentile(0.9) / 1000.0;
+    }
+
+    /**
+     * Get 99th percentile latency.
+     * @return The 99th percentile latency in milliseconds
+     */
+    public double getP99Latency() {
+        return latency.getPercentile(0.99) / 1000.0;
+    }
+
+    /**
+     * Get maximum latency.
+     * @return The maximum latency in milliseconds
+     */
+    public double getMaxLatency() {
+        return latency.getMax() / 1000.0;
+    }
+
+    /**
+     * Get number of errors, by exception type.
+     * @return The number of errors, by exception type
+     */
+    public Map<String, Long> getErrorCounts() {
+
+        Map<String, Long> errorCounts;
+        long count;
+
+        errorCounts = new LinkedHashMap<String, Long>();
+
+        for (int i = 0; i < EXCEPTION_TYPES.length; i++) {
+            count = errors.get(i);
+
+            if (count > 0) {
+                errorCounts.put(EXCEPTION_TYPES[i].name(), count);
+            }
+
+        }
+
+        return errorCounts;
+    }
+
+    /**
+     * Get total size of request bodies.
+     * @return The total size of request bodies in bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * Get total size of response bodies.
+     * @return The total size of response bodies in bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+}
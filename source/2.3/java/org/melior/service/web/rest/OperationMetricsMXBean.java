@@ -0,0 +1,87 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.Map;
+
+/**
+ * The management interface of the metrics that are recorded for an operation of
+ * a REST service.  An operation is identified by the HTTP method and the route
+ * pattern of the handler that serves it, for example {@code GET /customer/{id}}.
+ * @author Melior
+ * @since 2.3
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * Get operation.
+     * @return The operation
+     */
+    public String getOperation();
+
+    /**
+     * Get number of completed requests.
+     * @return The number of completed requests
+     */
+    public long getRequestCount();
+
+    /**
+     * Get number of requests in flight.
+     * @return The number of requests in flight
+     */
+    public int getInFlight();
+
+    /**
+     * Get mean latency.
+     * @return The mean latency in milliseconds
+     */
+    public double getMeanLatency();
+
+    /**
+     * Get 50th percentile (median) latency.
+     * @return The 50th percentile latency in milliseconds
+     */
+    public double getP50Latency();
+
+    /**
+     * Get 90th percentile latency.
+     * @return The 90th percentile latency in milliseconds
+     */
+    public double getP90Latency();
+
+    /**
+     * Get 99th percentile latency.
+     * @return The 99th percentile latency in milliseconds
+     */
+    public double getP99Latency();
+
+    /**
+     * Get maximum latency.
+     * @return The maximum latency in milliseconds
+     */
+    public double getMaxLatency();
+
+    /**
+     * Get number of errors, by exception type.
+     * @return The number of errors, by exception type
+     */
+    public Map<String, Long> getErrorCounts();
+
+    /**
+     * Get total size of request bodies.
+     * @return The total size of request bodies in bytes
+     */
+    public long getRequestBytes();
+
+    /**
+     * Get total size of response bodies.
+     * @return The total size of response bodies in bytes
+     */
+    public long getResponseBytes();
+
+}
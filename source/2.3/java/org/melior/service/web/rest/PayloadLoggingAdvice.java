@@ -0,0 +1,282 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+import org.melior.client.web.rest.PayloadLogger;
+import org.melior.logging.core.Logger;
+import org.melior.logging.core.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Logs the bodies of the HTTP REST requests and responses which are read and written
+ * with the Jackson or string message converters, when payload logging is enabled with the
+ * {@code server.request.payload-logging} application property.  The bodies are logged
+ * by a {@code PayloadLogger}, so they are only serialized when they are actually logged.
+ * The bodies are serialized with the object mapper of the JSON message converter which
+ * reads or writes them, and with the property filters and the serialization view of a
+ * {@code MappingJacksonValue}, so that they are logged as they are sent.
+ * Streamed bodies and raw binary bodies are not logged.
+ * @author Melior
+ * @since 2.3
+ * @see PayloadLogger
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "server.request.payload-logging", havingValue = "true")
+public class PayloadLoggingAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+
+    protected Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private PayloadLogger payloadLogger;
+
+    private ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    private Map<Class<?>, ObjectMapper> objectMappers;
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     */
+    public PayloadLoggingAdvice(
+        final RestServiceConfig configuration) {
+
+        this(configuration, null);
+    }
+
+    /**
+     * Constructor.
+     * @param configuration The service harness configuration
+     * @param handlerAdapter The handler adapter which holds the message converters
+     */
+    @Autowired
+    public PayloadLoggingAdvice(
+        final RestServiceConfig configuration,
+        final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+
+        super();
+
+        this.payloadLogger = new PayloadLogger(logger, this.getClass(), configuration.isPayloadLogging(), configuration.getPayloadSampleRate(),
+            configuration.getPayloadPaths(), configuration.getPayloadMaxLength(), configuration.getPayloadRedactFields(),
+            configuration.isPayloadAsync());
+
+        this.handlerAdapter = handlerAdapter;
+
+        this.objectMappers = new ConcurrentHashMap<Class<?>, ObjectMapper>();
+    }
+
+    /**
+     * Support inbound REST request.
+     * @param methodParameter The method parameter
+     * @param targetType The target type
+     * @param converterType The converter type
+     * @return true if the request body is read with a Jackson or string message converter, false otherwise
+     */
+    public boolean supports(
+        final MethodParameter methodParameter,
+        final Type targetType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return isSupported(converterType);
+    }
+
+    /**
+     * Log request body after it has been read.
+     * @param body The request body
+     * @param inputMessage The request
+     * @param parameter The method parameter
+     * @param targetType The target type
+     * @param converterType The converter type
+     * @return The request body
+     */
+    public Object afterBodyRead(
+        final Object body,
+        final HttpInputMessage inputMessage,
+        final MethodParameter parameter,
+        final Type targetType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        RequestAttributes attributes;
+
+        attributes = RequestContextHolder.getRequestAttributes();
+
+        payloadLogger.log("afterBodyRead", "request = ",
+            (attributes instanceof ServletRequestAttributes) ? getPath(((ServletRequestAttributes) attributes).getRequest()) : null, body,
+            getObjectWriter(body, converterType));
+
+        return body;
+    }
+
+    /**
+     * Support outbound REST response/exception.
+     * @param returnType The return type
+     * @param converterType The converter type
+     * @return true if the response body is written with a Jackson or string message converter, false otherwise
+     */
+    public boolean supports(
+        final MethodParameter returnType,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return isSupported(converterType);
+    }
+
+    /**
+     * Log response/exception body before it is sent.
+     * @param body The response/exception body
+     * @param returnType The return type
+     * @param selectedContentType The content type
+     * @param selectedConverterType The converter type
+     * @param request The request
+     * @param response The response
+     * @return The response/exception body
+     */
+    public Object beforeBodyWrite(
+        final Object body,
+        final MethodParameter returnType,
+        final MediaType selectedContentType,
+        final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        final ServerHttpRequest request,
+        final ServerHttpResponse response) {
+
+        payloadLogger.log("beforeBodyWrite", "response = ",
+            (request instanceof ServletServerHttpRequest) ? getPath(((ServletServerHttpRequest) request).getServletRequest()) : request.getURI().getRawPath(),
+            (body instanceof MappingJacksonValue) ? ((MappingJacksonValue) body).getValue() : body, getObjectWriter(body, selectedConverterType));
+
+        return body;
+    }
+
+    /**
+     * Check whether bodies are logged for message converter.
+     * @param converterType The converter type
+     * @return true if the converter is a Jackson or string message converter, false otherwise
+     */
+    private boolean isSupported(
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return (AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) == true)
+            || (StringHttpMessageConverter.class.isAssignableFrom(converterType) == true);
+    }
+
+    /**
+     * Get object writer which serializes body in the same way as the message converter.
+     * @param body The body
+     * @param converterType The converter type
+     * @return The object writer, or {@code null} if the converter does not write JSON with an object mapper
+     */
+    private ObjectWriter getObjectWriter(
+        final Object body,
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ObjectMapper objectMapper;
+        ObjectWriter objectWriter;
+
+        if ((body instanceof String) || (body instanceof byte[])) {
+            return null;
+        }
+
+        objectMapper = getObjectMapper(converterType);
+
+        if (objectMapper == null) {
+            return null;
+        }
+
+        objectWriter = objectMapper.writer();
+
+        if (body instanceof MappingJacksonValue) {
+
+            if (((MappingJacksonValue) body).getSerializationView() != null) {
+                objectWriter = objectWriter.withView(((MappingJacksonValue) body).getSerializationView());
+            }
+
+            if (((MappingJacksonValue) body).getFilters() != null) {
+                objectWriter = objectWriter.with(((MappingJacksonValue) body).getFilters());
+            }
+
+        }
+
+        return objectWriter;
+    }
+
+    /**
+     * Get object mapper of JSON message converter.
+     * @param converterType The converter type
+     * @return The object mapper, or {@code null} if the converter does not write JSON with an object mapper
+     */
+    private ObjectMapper getObjectMapper(
+        final Class<? extends HttpMessageConverter<?>> converterType) {
+
+        ObjectMapper objectMapper;
+        RequestMappingHandlerAdapter adapter;
+
+        objectMapper = objectMappers.get(converterType);
+
+        if ((objectMapper != null) || (handlerAdapter == null)) {
+            return objectMapper;
+        }
+
+        adapter = handlerAdapter.getIfAvailable();
+
+        if (adapter == null) {
+            return null;
+        }
+
+        for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+
+            if ((converter.getClass() == converterType) && (converter instanceof AbstractJackson2HttpMessageConverter)) {
+                objectMapper = ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+
+                if (JsonFactory.FORMAT_NAME_JSON.equals(objectMapper.getFactory().getFormatName()) == false) {
+                    return null;
+                }
+
+                objectMappers.put(converterType, objectMapper);
+
+                return objectMapper;
+            }
+
+        }
+
+        return null;
+    }
+
+    /**
+     * Get path of request, without the context path.
+     * @param request The request
+     * @return The path
+     */
+    private String getPath(
+        final HttpServletRequest request) {
+
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+}
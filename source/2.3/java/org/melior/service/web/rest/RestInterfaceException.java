@@ -8,6 +8,7 @@
 */
 package org.melior.service.web.rest;
 import org.melior.service.exception.ExceptionType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -29,6 +30,8 @@ public class RestInterfaceException extends Exception {
     private ExceptionType type;
 
     private String code;
+
+    private Integer retryAfter;
 
     /**
      * Constructor.
@@ -98,6 +101,24 @@ public class RestInterfaceException extends Exception {
         return code;
     }
 
+    /**
+     * Get retry after delay.
+     * @return The retry after delay in seconds, or {@code null} if none
+     */
+    public Integer getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Set retry after delay.  The delay is returned to the client application
+     * in the "Retry-After" header of the response.
+     * @param retryAfter The retry after delay in seconds
+     */
+    public void setRetryAfter(
+        final Integer retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
     /**
      * Get response status.
      * @param type The exception type
@@ -126,7 +147,16 @@ public class RestInterfaceException extends Exception {
      */
     public ResponseEntity<ExceptionPayload> getResponse() {
 
-        return new ResponseEntity<ExceptionPayload>(new ExceptionPayload(type.name(), code, getMessage()), status);
+        HttpHeaders headers;
+
+        if (retryAfter == null) {
+            return new ResponseEntity<ExceptionPayload>(new ExceptionPayload(type.name(), code, getMessage()), status);
+        }
+
+        headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter.toString());
+
+        return new ResponseEntity<ExceptionPayload>(new ExceptionPayload(type.name(), code, getMessage()), headers, status);
     }
 
     /**
@@ -7,10 +7,7 @@
         Service Harness
 */
 package org.melior.service.web.rest;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.util.TimeZone;
-import java.util.UUID;
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.melior.context.service.ServiceContext;
@@ -21,8 +18,8 @@ import org.melior.service.exception.ApplicationException;
 import org.melior.service.exception.ExceptionType;
 import org.melior.service.work.WorkManager;
 import org.melior.util.object.ObjectUtil;
-import org.melior.util.time.AccurateLocalDateTime;
-import org.melior.util.time.DateFormatter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -30,9 +27,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.ControllerAdvice;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 /**
@@ -43,22 +43,80 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
  * When an HTTP REST request is received, then the "X-Origin-Id", "X-Request-Id" and
  * "X-Correlation-Id" headers are extracted from the request and the transaction
  * context is populated accordingly.  If the "X-Request-Id" header is absent, then
- * the transaction context is populated with an automatically generated UUID.
+ * the transaction context is populated with an identifier that is generated by the
+ * configured {@code TransactionIdGenerator}.
  * <p>
  * When an HTTP REST request completes, then the "X-Request-Id" and "X-Correlation-Id"
  * headers in the HTTP REST response are populated with appropriate values from the
  * transaction context, before the response is sent to the client application.
+ * <p>
+ * When load shedding is enabled, then the number of requests in flight is limited by an
+ * adaptive concurrency limit.  Requests beyond the limit are rejected immediately with a
+ * {@code SERVICE_OVERLOAD} exception, before they reach the {@code WorkManager}, unless the
+ * request is marked as a priority request with the configured priority header.
+ * <p>
+ * The latency, the number of requests in flight, the errors and the sizes of the requests
+ * and responses are recorded per operation, where the operation is identified by the HTTP
+ * method and the route pattern of the handler that serves the request.
+ * <p>
+ * The responses of {@code Controller} methods which are annotated with {@code ETag} are
+ * given a strong entity tag, and are answered with HTTP status 304 when the entity tag
+ * matches the "If-None-Match" header of the request.
+ * <p>
+ * When sparse fieldsets are enabled and a request selects a sparse fieldset with the "fields"
+ * query parameter or the "X-Fields" header, then only the selected fields of the response
+ * body are written.
+ * <p>
+ * When a {@code Controller} returns a {@code Callable}, a {@code DeferredResult} or a
+ * {@code CompletableFuture}, then the request is only completed when the asynchronous
+ * result has been dispatched.  The tracking data of the request is restored on the
+ * thread which dispatches the result, and the thread which started the request is
+ * released with a clean transaction context.
  * @author Melior
  * @since 2.0
  */
 @ControllerAdvice
-public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+public class RestRequestInterceptor implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
 
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
 
+    private static final String REQUEST_ID = "X-Request-Id";
+
+    private static final String CORRELATION_ID = "X-Correlation-Id";
+
+    private static final String REQUEST_TIMESTAMP = "Request-Timestamp";
+
+    private static final String RESPONSE_TIMESTAMP = "Response-Timestamp";
+
+    private static final String START_ATTRIBUTE = RestRequestInterceptor.class.getName() + ".start";
+
+    private static final String PERMIT_ATTRIBUTE = RestRequestInterceptor.class.getName() + ".permit";
+
+    private static final String METRICS_ATTRIBUTE = RestRequestInterceptor.class.getName() + ".metrics";
+
+    private static final String EXCEPTION_TYPE_ATTRIBUTE = RestRequestInterceptor.class.getName() + ".exceptionType";
+
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private WorkManager workManager;
+
+    private TransactionIdGenerator transactionIdGenerator;
+
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    private String priorityHeader;
+
+    private int retryAfter;
+
+    private RestServiceMetrics serviceMetrics;
+
+    private EntityTagHandler entityTagHandler;
+
+    private FieldSetHandler fieldSetHandler;
+
+    private TimestampFormatter requestTimestampFormatter;
+
+    private TimestampFormatter responseTimestampFormatter;
 
     /**
      * Constructor.
@@ -67,9 +125,70 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
     public RestRequestInterceptor(
         final ServiceContext serviceContext) {
 
+        this(serviceContext, new RestServiceConfig());
+    }
+
+    /**
+     * Constructor.
+     * @param serviceContext The service context
+     * @param configuration The service harness configuration
+     */
+    public RestRequestInterceptor(
+        final ServiceContext serviceContext,
+        final RestServiceConfig configuration) {
+
+        this(serviceContext, configuration, new RestServiceMetrics());
+    }
+
+    /**
+     * Constructor.
+     * @param serviceContext The service context
+     * @param configuration The service harness configuration
+     * @param serviceMetrics The service metrics
+     */
+    public RestRequestInterceptor(
+        final ServiceContext serviceContext,
+        final RestServiceConfig configuration,
+        final RestServiceMetrics serviceMetrics) {
+
+        this(serviceContext, configuration, serviceMetrics, null);
+    }
+
+    /**
+     * Constructor.
+     * @param serviceContext The service context
+     * @param configuration The service harness configuration
+     * @param serviceMetrics The service metrics
+     * @param handlerAdapter The handler adapter which holds the message converters
+     */
+    @Autowired
+    public RestRequestInterceptor(
+        final ServiceContext serviceContext,
+        final RestServiceConfig configuration,
+        final RestServiceMetrics serviceMetrics,
+        final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+
         super();
 
         this.workManager = ServiceContext.getWorkManager();
+
+        this.transactionIdGenerator = TransactionIdGenerator.of(configuration.getTransactionIdGenerator(), configuration.getNodeId());
+
+        this.concurrencyLimiter = (configuration.isLoadShedding() == true) ? new ConcurrencyLimiter(configuration) : null;
+
+        this.priorityHeader = configuration.getPriorityHeader();
+
+        this.retryAfter = configuration.getLoadSheddingRetryAfter();
+
+        this.serviceMetrics = (configuration.isMetrics() == true) ? serviceMetrics : null;
+
+        this.entityTagHandler = new EntityTagHandler(configuration, handlerAdapter);
+
+        this.fieldSetHandler = (configuration.isFields() == true) ? new FieldSetHandler(configuration, handlerAdapter) : null;
+
+        this.requestTimestampFormatter = new TimestampFormatter();
+
+        this.responseTimestampFormatter = new TimestampFormatter();
     }
 
     /**
@@ -85,6 +204,18 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
         final Object handler) throws Exception {
 
         String operation;
+        TransactionContextSnapshot snapshot;
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            snapshot = (TransactionContextSnapshot) request.getAttribute(TransactionContextSnapshot.ATTRIBUTE);
+
+            if (snapshot != null) {
+                snapshot.restore();
+
+                return true;
+            }
+
+        }
 
         operation = getOperation(request);
 
@@ -92,6 +223,50 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
 
         return true;
     }
+
+    /**
+     * Suspend REST request while the {@code Controller} produces its result asynchronously.
+     * The tracking data of the request is kept with the request, to be restored when the
+     * result is dispatched, and the transaction context of the current thread is reset.
+     * The request is stamped with its start time here, because the transaction that is
+     * started when the result is dispatched has a start time of its own.  The durations
+     * of the request are measured from the start time that is kept with the request.
+     * @param request The request
+     * @param response The response
+     * @param handler The handler
+     * @throws Exception if unable to suspend the request
+     */
+    public void afterConcurrentHandlingStarted(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final Object handler) throws Exception {
+
+        String methodName = "afterConcurrentHandlingStarted";
+        TransactionContext transactionContext;
+        TransactionContextSnapshot snapshot;
+
+        transactionContext = TransactionContext.get();
+
+        if ("/error".equals(transactionContext.getOperation()) == true) {
+            return;
+        }
+
+        try {
+
+            snapshot = TransactionContextSnapshot.capture();
+            request.setAttribute(TransactionContextSnapshot.ATTRIBUTE, snapshot);
+
+            if (response.containsHeader(REQUEST_TIMESTAMP) == false) {
+                response.setHeader(REQUEST_TIMESTAMP, requestTimestampFormatter.format(snapshot.getStartTimeMillis()));
+            }
+
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to suspend request: ", exception.getMessage(), exception);
+        }
+
+        transactionContext.reset();
+    }
 
     /**
      * Process outbound REST response/exception.
@@ -120,7 +295,7 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
 
         if ((httpStatus != null) && (httpStatus.isError() == false)) {
 
-            completeRequest(response, false);
+            completeRequest(request, response, false);
         }
 
     }
@@ -150,9 +325,9 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
             httpStatus = null;
         }
 
-        if ((httpStatus == null) || (httpStatus.isError() == true)) {
+        if ((httpStatus == null) || (httpStatus.isError() == true) || (exception != null)) {
 
-            completeRequest(response, true);
+            completeRequest(request, response, true);
         }
 
     }
@@ -187,9 +362,21 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
         final ServerHttpRequest request,
         final ServerHttpResponse response) {
 
+        Object sparseBody;
+
+        if ((body instanceof ExceptionPayload) && (request instanceof ServletServerHttpRequest)) {
+            setExceptionType(((ServletServerHttpRequest) request).getServletRequest(), (ExceptionPayload) body);
+        }
+
         modifyResponse(response);
+
+        sparseBody = (fieldSetHandler == null) ? body : fieldSetHandler.process(body, selectedConverterType, request);
+
+        if (returnType.hasMethodAnnotation(ETag.class) == true) {
+            return entityTagHandler.process(sparseBody, returnType, selectedContentType, selectedConverterType, request, response);
+        }
 
-        return body;
+        return sparseBody;
     }
 
     /**
@@ -218,8 +405,8 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
 
         try {
 
-            transactionId = request.getHeader("X-Request-Id");
-            correlationId = request.getHeader("X-Correlation-Id");
+            transactionId = request.getHeader(REQUEST_ID);
+            correlationId = request.getHeader(CORRELATION_ID);
 
             transactionContext.startTransaction();
             transactionContext.setOriginId(request.getHeader("X-Origin-Id"));
@@ -231,6 +418,27 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
             logger.error(methodName, "Failed to get tracking data from request: ", exception.getMessage(), exception);
         }
 
+        if ((concurrencyLimiter != null) || (serviceMetrics != null)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+
+        if (serviceMetrics != null) {
+            request.setAttribute(METRICS_ATTRIBUTE, serviceMetrics.startRequest(request));
+        }
+
+        if ((concurrencyLimiter != null) && (isPriority(request) == false)) {
+
+            if (concurrencyLimiter.tryAcquire() == false) {
+                logger.debug(methodName, "Request rejected.  Concurrency limit = ", concurrencyLimiter.getLimit(), ".");
+
+                finishRequest(request, false, ExceptionType.SERVICE_OVERLOAD);
+
+                throw getOverloadException(ExceptionType.SERVICE_OVERLOAD, "", "Service concurrency limit reached.");
+            }
+
+            request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        }
+
         try {
 
             workManager.startRequest(transactionContext);
@@ -238,10 +446,18 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
         catch (ApplicationException exception) {
             logger.error(methodName, "Failed to notify work manager that request has started: ", exception.getMessage(), exception);
 
+            finishRequest(request, exception.getType() == ExceptionType.SERVICE_OVERLOAD, exception.getType());
+
+            if (exception.getType() == ExceptionType.SERVICE_OVERLOAD) {
+                throw getOverloadException(exception.getType(), exception.getCode(), exception.getMessage());
+            }
+
             throw new RestInterfaceException(exception.getType(), exception.getCode(), exception.getMessage());
         }
         catch (Exception exception) {
             logger.error(methodName, "Failed to notify work manager that request has started: ", exception.getMessage(), exception);
+
+            finishRequest(request, false, ExceptionType.UNEXPECTED);
 
             throw new RestInterfaceException(ExceptionType.UNEXPECTED, "", exception.getMessage());
         }
@@ -257,25 +473,58 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
 
         String methodName = "modifyResponse";
         TransactionContext transactionContext;
-        String requestTimestamp;
-        String responseTimestamp;
         HttpHeaders headers;
 
+        if (response instanceof ServletServerHttpResponse) {
+
+            stampResponse(((ServletServerHttpResponse) response).getServletResponse());
+
+            return;
+        }
+
         transactionContext = TransactionContext.get();
 
         try {
 
-            requestTimestamp = DateFormatter.formatTimestamp(LocalDateTime.ofInstant(
-                Instant.ofEpochMilli(transactionContext.getStartTimeMillis()),
-                TimeZone.getDefault().toZoneId()), TIMESTAMP_FORMAT);
+            headers = response.getHeaders();
+            headers.set(REQUEST_ID, transactionContext.getTransactionId());
+            headers.set(CORRELATION_ID, transactionContext.getCorrelationId());
+            headers.set(REQUEST_TIMESTAMP, requestTimestampFormatter.format(transactionContext.getStartTimeMillis()));
+            headers.set(RESPONSE_TIMESTAMP, responseTimestampFormatter.format(System.currentTimeMillis()));
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to set tracking data on response: ", exception.getMessage(), exception);
+        }
 
-            responseTimestamp = DateFormatter.formatTimestamp(AccurateLocalDateTime.now(), TIMESTAMP_FORMAT);
+    }
 
-            headers = response.getHeaders();
-            headers.add("X-Request-Id", transactionContext.getTransactionId());
-            headers.add("X-Correlation-Id", transactionContext.getCorrelationId());
-            headers.add("Request-Timestamp", requestTimestamp);
-            headers.add("Response-Timestamp", responseTimestamp);
+    /**
+     * Stamp tracking headers on response.  The headers are only stamped once per
+     * request, and only if the response has not yet been committed.
+     * @param response The response
+     */
+    private final void stampResponse(
+        final HttpServletResponse response) {
+
+        String methodName = "stampResponse";
+        TransactionContext transactionContext;
+
+        if ((response.isCommitted() == true) || (response.containsHeader(RESPONSE_TIMESTAMP) == true)) {
+            return;
+        }
+
+        transactionContext = TransactionContext.get();
+
+        try {
+
+            response.setHeader(REQUEST_ID, transactionContext.getTransactionId());
+            response.setHeader(CORRELATION_ID, transactionContext.getCorrelationId());
+
+            if (response.containsHeader(REQUEST_TIMESTAMP) == false) {
+                response.setHeader(REQUEST_TIMESTAMP, requestTimestampFormatter.format(transactionContext.getStartTimeMillis()));
+            }
+
+            response.setHeader(RESPONSE_TIMESTAMP, responseTimestampFormatter.format(System.currentTimeMillis()));
         }
         catch (Exception exception) {
             logger.error(methodName, "Failed to set tracking data on response: ", exception.getMessage(), exception);
@@ -292,10 +541,22 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
         final HttpServletResponse response,
         final boolean isException) {
 
+        completeRequest(null, response, isException);
+    }
+
+    /**
+     * Complete processing request. 
+     * @param request The request
+     * @param response The response
+     * @param isException true if the response is an exception, false otherwise
+     */
+    public final void completeRequest(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final boolean isException) {
+
         String methodName = "completeRequest";
         TransactionContext transactionContext;
-        String requestTimestamp;
-        String responseTimestamp;
 
         transactionContext = TransactionContext.get();
 
@@ -311,28 +572,107 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
             logger.error(methodName, "Failed to notify work manager that request has completed: ", exception.getMessage(), exception);
         }
 
-        try {
+        if (request != null) {
+            finishRequest(request, false, (isException == false) ? null
+                : ObjectUtil.coalesce((ExceptionType) request.getAttribute(EXCEPTION_TYPE_ATTRIBUTE), ExceptionType.UNEXPECTED));
+        }
 
-            if (response.isCommitted() == false) {
+        stampResponse(response);
 
-                requestTimestamp = DateFormatter.formatTimestamp(LocalDateTime.ofInstant(
-                    Instant.ofEpochMilli(transactionContext.getStartTimeMillis()),
-                    TimeZone.getDefault().toZoneId()), TIMESTAMP_FORMAT);
+        transactionContext.reset();
+
+    }
 
-                responseTimestamp = DateFormatter.formatTimestamp(AccurateLocalDateTime.now(), TIMESTAMP_FORMAT);
+    /**
+     * Finish request by releasing the concurrency permit that was acquired for the
+     * request, if any, and by recording the metrics of the request, if any.
+     * @param request The request
+     * @param overloaded true if the request was rejected because the service is overloaded, false otherwise
+     * @param exceptionType The exception type if the request failed, {@code null} otherwise
+     */
+    private void finishRequest(
+        final HttpServletRequest request,
+        final boolean overloaded,
+        final ExceptionType exceptionType) {
 
-                response.setHeader("X-Request-Id", transactionContext.getTransactionId());
-                response.setHeader("X-Correlation-Id", transactionContext.getCorrelationId());
-                response.setHeader("Request-Timestamp", requestTimestamp);
-                response.setHeader("Response-Timestamp", responseTimestamp);
-            }
+        Object startTime;
+        long duration;
+        OperationMetrics metrics;
 
-            transactionContext.reset();
+        startTime = request.getAttribute(START_ATTRIBUTE);
+
+        if (startTime == null) {
+            return;
+        }
+
+        request.removeAttribute(START_ATTRIBUTE);
+
+        duration = System.nanoTime() - (Long) startTime;
+
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+
+            concurrencyLimiter.release(duration, overloaded);
+        }
+
+        metrics = (OperationMetrics) request.getAttribute(METRICS_ATTRIBUTE);
+
+        if (metrics != null) {
+            request.removeAttribute(METRICS_ATTRIBUTE);
+
+            metrics.complete(duration, request.getContentLengthLong(), exceptionType);
+        }
+
+    }
+
+    /**
+     * Record exception type of the exception payload that is returned for request.
+     * @param request The request
+     * @param exceptionPayload The exception payload
+     */
+    private void setExceptionType(
+        final HttpServletRequest request,
+        final ExceptionPayload exceptionPayload) {
+
+        try {
+
+            request.setAttribute(EXCEPTION_TYPE_ATTRIBUTE, ExceptionType.valueOf(exceptionPayload.getType()));
         }
         catch (Exception exception) {
-            logger.error(methodName, "Failed to set tracking data on response: ", exception.getMessage(), exception);
+            request.setAttribute(EXCEPTION_TYPE_ATTRIBUTE, ExceptionType.UNEXPECTED);
         }
-
+
+    }
+
+    /**
+     * Check whether request is marked as a priority request.
+     * @param request The request
+     * @return true if the request is a priority request, false otherwise
+     */
+    private boolean isPriority(
+        final HttpServletRequest request) {
+
+        return (priorityHeader != null) && ("high".equalsIgnoreCase(request.getHeader(priorityHeader)) == true);
+    }
+
+    /**
+     * Get exception for request that is rejected because the service is overloaded.
+     * @param type The exception type
+     * @param code The exception code
+     * @param message The exception message
+     * @return The interface exception
+     */
+    private RestInterfaceException getOverloadException(
+        final ExceptionType type,
+        final String code,
+        final String message) {
+
+        RestInterfaceException exception;
+
+        exception = new RestInterfaceException(type, code, message);
+        exception.setRetryAfter(retryAfter);
+
+        return exception;
     }
 
     /**
@@ -358,14 +698,14 @@ public class RestRequestInterceptor implements HandlerInterceptor, ResponseBodyA
     }
 
     /**
-     * Get transaction identifier.  Generates a UUID if the transaction identifier is undefined.
+     * Get transaction identifier.  Generates a new identifier if the transaction identifier is undefined.
      * @param transactionId The provided transaction identifier
      * @return The resultant transaction identifier
      */
     private String getTransactionId(
         final String transactionId) {
 
-        return (transactionId == null) ? UUID.randomUUID().toString() : transactionId;
+        return (transactionId == null) ? transactionIdGenerator.generate() : transactionId;
     }
 
 }
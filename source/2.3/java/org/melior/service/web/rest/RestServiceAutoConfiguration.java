@@ -7,12 +7,34 @@
         Service Harness
 */
 package org.melior.service.web.rest;
+import java.util.List;
+import org.melior.client.web.rest.RestObjectMapper;
+import org.melior.client.web.rest.codec.JsonCodecModule;
+import org.melior.client.web.rest.patch.MappingJackson2CborHttpMessageConverter;
+import org.melior.client.web.rest.patch.MappingJackson2SmileHttpMessageConverter;
 import org.melior.context.service.ServiceContext;
+import org.melior.service.exception.ExceptionType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 /**
  * Installs an interceptor which routes HTTP REST requests past the
@@ -23,6 +45,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * exception payload to a client application when an exception is
  * propagated out of a {@code Controller} that handles HTTP REST
  * requests.
+ * <p>
+ * Also tunes the embedded Undertow server with defaults that are derived
+ * from the number of available processors, installs a message converter
+ * which streams {@code Stream} and {@code Iterator} responses, and installs
+ * message converters for the binary JSON formats Smile and CBOR.
  * @author Melior
  * @since 2.0
  * @see RestRequestInterceptor
@@ -33,16 +60,49 @@ public class RestServiceAutoConfiguration implements WebMvcConfigurer {
 
     private ServiceContext serviceContext;
 
+    private RestServiceConfig configuration;
+
+    private RestServiceMetrics serviceMetrics;
+
+    private ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilder;
+
     /**
      * Constructor.
      * @param serviceContext The service context
+     * @param configuration The service harness configuration
+     * @param serviceMetrics The service metrics
      */
     public RestServiceAutoConfiguration(
-        final ServiceContext serviceContext) {
+        final ServiceContext serviceContext,
+        final RestServiceConfig configuration,
+        final RestServiceMetrics serviceMetrics) {
+
+        this(serviceContext, configuration, serviceMetrics, null);
+    }
+
+    /**
+     * Constructor.
+     * @param serviceContext The service context
+     * @param configuration The service harness configuration
+     * @param serviceMetrics The service metrics
+     * @param mapperBuilder The object mapper builder of the application context
+     */
+    @Autowired
+    public RestServiceAutoConfiguration(
+        final ServiceContext serviceContext,
+        final RestServiceConfig configuration,
+        final RestServiceMetrics serviceMetrics,
+        final ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilder) {
 
         super();
 
         this.serviceContext = serviceContext;
+
+        this.configuration = configuration;
+
+        this.serviceMetrics = serviceMetrics;
+
+        this.mapperBuilder = mapperBuilder;
     }
 
     /**
@@ -52,9 +112,146 @@ public class RestServiceAutoConfiguration implements WebMvcConfigurer {
     public void addInterceptors(
         final InterceptorRegistry interceptorRegistry) {
 
-        interceptorRegistry.addInterceptor(new RestRequestInterceptor(serviceContext));
+        interceptorRegistry.addInterceptor(new RestRequestInterceptor(serviceContext, configuration, serviceMetrics));
     }
 
+    /**
+     * Configure asynchronous request processing.
+     * @param configurer The asynchronous support configurer
+     */
+    public void configureAsyncSupport(
+        final AsyncSupportConfigurer configurer) {
+
+        configurer.registerCallableInterceptors(new AsyncRequestInterceptor());
+    }
+
+    /**
+     * Add message converter which streams {@code Stream} and {@code Iterator} responses, using
+     * the object mapper of the JSON message converter.  If so configured, then the generated
+     * codecs of {@code JsonCodec} classes are registered with the object mappers of the JSON
+     * and binary JSON message converters.  Also add message converters for the
+     * binary JSON formats Smile and CBOR directly after the JSON message converter, so that
+     * they are only selected when the client asks for them.  The object mappers of the binary
+     * formats are built with the object mapper builder of the application context, so that
+     * they have the same modules and settings as the object mapper of the JSON message converter.  If so configured, then the
+     * object mappers of all Jackson message converters are optimized, and are prepared for sparse
+     * fieldsets.  The object mappers are copied before they are changed, so that the object mapper
+     * of the application context, which the JSON message converter shares, is left as it is.
+     * @param converters The message converters
+     */
+    public void extendMessageConverters(
+        final List<HttpMessageConverter<?>> converters) {
+
+        ObjectMapper objectMapper = null;
+        int index;
+
+        converters.removeIf(converter -> (converter instanceof org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter)
+            || (converter instanceof org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter));
+
+        if ((configuration.isGeneratedCodecs() == true) || (configuration.isFields() == true) || (configuration.isOptimizeMapper() == true)) {
+
+            for (HttpMessageConverter<?> converter : converters) {
+
+                if (converter instanceof AbstractJackson2HttpMessageConverter) {
+                    ((AbstractJackson2HttpMessageConverter) converter).setObjectMapper(
+                        ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper().copy());
+                }
+
+            }
+
+        }
+
+        for (index = 0; index < converters.size(); index++) {
+
+            if (converters.get(index) instanceof MappingJackson2HttpMessageConverter) {
+                objectMapper = ((MappingJackson2HttpMessageConverter) converters.get(index)).getObjectMapper();
+
+                if (configuration.isGeneratedCodecs() == true) {
+                    JsonCodecModule.registerAll(objectMapper);
+                }
+
+                break;
+            }
+
+        }
+
+        index = Math.min(index + 1, converters.size());
+        converters.add(index, new MappingJackson2SmileHttpMessageConverter(getBinaryMapper(new SmileFactory())));
+        converters.add(index + 1, new MappingJackson2CborHttpMessageConverter(getBinaryMapper(new CBORFactory())));
+
+        converters.add(0, new StreamingHttpMessageConverter((objectMapper == null) ? new ObjectMapper() : objectMapper,
+            configuration.getStreamingFlushInterval()));
+
+        if (configuration.isFields() == true) {
+
+            for (HttpMessageConverter<?> converter : converters) {
+
+                if (converter instanceof AbstractJackson2HttpMessageConverter) {
+                    FieldSetHandler.prepare(((AbstractJackson2HttpMessageConverter) converter).getObjectMapper());
+                }
+                else if (converter instanceof org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) {
+                    FieldSetHandler.prepare(((org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) converter).getObjectMapper());
+                }
+
+            }
+
+        }
+
+        if (configuration.isOptimizeMapper() == true) {
+
+            for (HttpMessageConverter<?> converter : converters) {
+
+                if (converter instanceof AbstractJackson2HttpMessageConverter) {
+                    RestObjectMapper.optimize(((AbstractJackson2HttpMessageConverter) converter).getObjectMapper());
+                }
+                else if (converter instanceof org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) {
+                    RestObjectMapper.optimize(((org.melior.client.web.rest.patch.AbstractJackson2HttpMessageConverter) converter).getObjectMapper());
+                }
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Get object mapper for binary JSON format.  The object mapper is built with the object
+     * mapper builder of the application context, if there is one, so that it is configured
+     * in the same way as the object mapper of the JSON message converter.
+     * @param factory The factory of the binary JSON format
+     * @return The object mapper
+     */
+    private ObjectMapper getBinaryMapper(
+        final JsonFactory factory) {
+
+        Jackson2ObjectMapperBuilder builder;
+        ObjectMapper objectMapper;
+
+        builder = (mapperBuilder == null) ? null : mapperBuilder.getIfAvailable();
+
+        if (builder == null) {
+            objectMapper = new ObjectMapper(factory).configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        }
+        else {
+            objectMapper = builder.factory(factory).build();
+        }
+
+        return (configuration.isGeneratedCodecs() == true) ? JsonCodecModule.registerAll(objectMapper) : objectMapper;
+    }
+
+    /**
+     * Create customizer which tunes the embedded Undertow server.
+     * @param configuration The service harness configuration
+     * @param serverProperties The server properties of Spring Boot
+     * @return The Undertow customizer
+     */
+    @Bean
+    public static UndertowCustomizer undertowCustomizer(
+        final RestServiceConfig configuration,
+        final ObjectProvider<ServerProperties> serverProperties) {
+        return new UndertowCustomizer(configuration.getUndertow(), serverProperties.getIfAvailable());
+    }
+
     /**
      * Create exception handler for interface exceptions.
      * @param exception The interface exception
@@ -66,4 +263,24 @@ public class RestServiceAutoConfiguration implements WebMvcConfigurer {
         return exception.getResponse();
     }
 
+    /**
+     * Create exception handler for request bodies which cannot be read.  A request body which
+     * exceeds the decompression limit is answered with HTTP status 413, while other exceptions
+     * are left to the default exception handlers.
+     * @param exception The exception
+     * @return The response entity
+     * @throws HttpMessageNotReadableException if the request body is not too large
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class})
+    public ResponseEntity<ExceptionPayload> handleUnreadableMessage(
+        final HttpMessageNotReadableException exception) throws HttpMessageNotReadableException {
+
+        if (CompressionFilter.isRequestTooLarge(exception) == false) {
+            throw exception;
+        }
+
+        return new RestInterfaceException(HttpStatus.PAYLOAD_TOO_LARGE, ExceptionType.LOCAL_APPLICATION, "",
+            exception.getMostSpecificCause().getMessage()).getResponse();
+    }
+
 }
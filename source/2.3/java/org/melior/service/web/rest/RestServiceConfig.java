@@ -0,0 +1,622 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration parameters for the REST service harness, with defaults.  The
+ * parameters are bound from the {@code server.request} application properties.
+ * @author Melior
+ * @since 2.3
+ */
+@Component
+@ConfigurationProperties("server.request")
+public class RestServiceConfig {
+
+    private String transactionIdGenerator = "time-ordered";
+
+    private Long nodeId;
+
+    private boolean loadShedding = false;
+
+    private int loadSheddingInitialLimit = 100;
+
+    private int loadSheddingMinimumLimit = 10;
+
+    private int loadSheddingMaximumLimit = 1000;
+
+    private int loadSheddingLatencyThreshold = 1000;
+
+    private double loadSheddingBackoffRatio = 0.9;
+
+    private int loadSheddingRetryAfter = 1;
+
+    private String priorityHeader = "X-Priority";
+
+    private boolean metrics = true;
+
+    private String metricsPath;
+
+    private int etagCacheSize = 1000;
+
+    private boolean compression = false;
+
+    private int compressionLevel = 6;
+
+    private int compressionThreshold = 2048;
+
+    private long decompressionLimit = -1;
+
+    private UndertowConfig undertow = new UndertowConfig();
+
+    private int streamingFlushInterval = 0;
+
+    private boolean optimizeMapper = false;
+
+    private boolean generatedCodecs = false;
+
+    private boolean fields = false;
+
+    private String fieldsParameter = "fields";
+
+    private String fieldsHeader = "X-Fields";
+
+    private int fieldsCacheSize = 1000;
+
+    private boolean payloadLogging = false;
+
+    private double payloadSampleRate = 1.0;
+
+    private List<String> payloadPaths = new ArrayList<>();
+
+    private int payloadMaxLength = 4096;
+
+    private List<String> payloadRedactFields = new ArrayList<>();
+
+    private boolean payloadAsync = false;
+
+    /**
+     * Constructor.
+     */
+    public RestServiceConfig() {
+
+        super();
+    }
+
+    /**
+     * Get transaction identifier generator.
+     * @return The transaction identifier generator
+     */
+    public String getTransactionIdGenerator() {
+        return transactionIdGenerator;
+    }
+
+    /**
+     * Set transaction identifier generator.
+     * @param transactionIdGenerator The transaction identifier generator
+     */
+    public void setTransactionIdGenerator(
+        final String transactionIdGenerator) {
+        this.transactionIdGenerator = transactionIdGenerator;
+    }
+
+    /**
+     * Get node identifier.
+     * @return The node identifier
+     */
+    public Long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Set node identifier.
+     * @param nodeId The node identifier
+     */
+    public void setNodeId(
+        final Long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Get load shedding indicator.
+     * @return The load shedding indicator
+     */
+    public boolean isLoadShedding() {
+        return loadShedding;
+    }
+
+    /**
+     * Set load shedding indicator.
+     * @param loadShedding The load shedding indicator
+     */
+    public void setLoadShedding(
+        final boolean loadShedding) {
+        this.loadShedding = loadShedding;
+    }
+
+    /**
+     * Get initial concurrency limit.
+     * @return The initial concurrency limit
+     */
+    public int getLoadSheddingInitialLimit() {
+        return loadSheddingInitialLimit;
+    }
+
+    /**
+     * Set initial concurrency limit.
+     * @param loadSheddingInitialLimit The initial concurrency limit
+     */
+    public void setLoadSheddingInitialLimit(
+        final int loadSheddingInitialLimit) {
+        this.loadSheddingInitialLimit = loadSheddingInitialLimit;
+    }
+
+    /**
+     * Get minimum concurrency limit.
+     * @return The minimum concurrency limit
+     */
+    public int getLoadSheddingMinimumLimit() {
+        return loadSheddingMinimumLimit;
+    }
+
+    /**
+     * Set minimum concurrency limit.
+     * @param loadSheddingMinimumLimit The minimum concurrency limit
+     */
+    public void setLoadSheddingMinimumLimit(
+        final int loadSheddingMinimumLimit) {
+        this.loadSheddingMinimumLimit = loadSheddingMinimumLimit;
+    }
+
+    /**
+     * Get maximum concurrency limit.
+     * @return The maximum concurrency limit
+     */
+    public int getLoadSheddingMaximumLimit() {
+        return loadSheddingMaximumLimit;
+    }
+
+    /**
+     * Set maximum concurrency limit.
+     * @param loadSheddingMaximumLimit The maximum concurrency limit
+     */
+    public void setLoadSheddingMaximumLimit(
+        final int loadSheddingMaximumLimit) {
+        this.loadSheddingMaximumLimit = loadSheddingMaximumLimit;
+    }
+
+    /**
+     * Get latency threshold in milliseconds.
+     * @return The latency threshold
+     */
+    public int getLoadSheddingLatencyThreshold() {
+        return loadSheddingLatencyThreshold;
+    }
+
+    /**
+     * Set latency threshold in milliseconds.
+     * @param loadSheddingLatencyThreshold The latency threshold
+     */
+    public void setLoadSheddingLatencyThreshold(
+        final int loadSheddingLatencyThreshold) {
+        this.loadSheddingLatencyThreshold = loadSheddingLatencyThreshold;
+    }
+
+    /**
+     * Get backoff ratio.
+     * @return The backoff ratio
+     */
+    public double getLoadSheddingBackoffRatio() {
+        return loadSheddingBackoffRatio;
+    }
+
+    /**
+     * Set backoff ratio.
+     * @param loadSheddingBackoffRatio The backoff ratio
+     */
+    public void setLoadSheddingBackoffRatio(
+        final double loadSheddingBackoffRatio) {
+        this.loadSheddingBackoffRatio = loadSheddingBackoffRatio;
+    }
+
+    /**
+     * Get retry after delay in seconds.
+     * @return The retry after delay
+     */
+    public int getLoadSheddingRetryAfter() {
+        return loadSheddingRetryAfter;
+    }
+
+    /**
+     * Set retry after delay in seconds.
+     * @param loadSheddingRetryAfter The retry after delay
+     */
+    public void setLoadSheddingRetryAfter(
+        final int loadSheddingRetryAfter) {
+        this.loadSheddingRetryAfter = loadSheddingRetryAfter;
+    }
+
+    /**
+     * Get priority header name.
+     * @return The priority header name
+     */
+    public String getPriorityHeader() {
+        return priorityHeader;
+    }
+
+    /**
+     * Set priority header name.
+     * @param priorityHeader The priority header name
+     */
+    public void setPriorityHeader(
+        final String priorityHeader) {
+        this.priorityHeader = priorityHeader;
+    }
+
+    /**
+     * Get metrics indicator.
+     * @return The metrics indicator
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set metrics indicator.
+     * @param metrics The metrics indicator
+     */
+    public void setMetrics(
+        final boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get metrics path.
+     * @return The metrics path
+     */
+    public String getMetricsPath() {
+        return metricsPath;
+    }
+
+    /**
+     * Set metrics path.
+     * @param metricsPath The metrics path
+     */
+    public void setMetricsPath(
+        final String metricsPath) {
+        this.metricsPath = metricsPath;
+    }
+
+    /**
+     * Get maximum number of serialized response bodies to cache per entity tag.
+     * @return The maximum number of serialized response bodies
+     */
+    public int getEtagCacheSize() {
+        return etagCacheSize;
+    }
+
+    /**
+     * Set maximum number of serialized response bodies to cache per entity tag.
+     * @param etagCacheSize The maximum number of serialized response bodies
+     */
+    public void setEtagCacheSize(
+        final int etagCacheSize) {
+        this.etagCacheSize = etagCacheSize;
+    }
+
+    /**
+     * Get compression indicator.
+     * @return true if responses may be compressed, false otherwise
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Set compression indicator.
+     * @param compression The compression indicator
+     */
+    public void setCompression(
+        final boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Get compression level.
+     * @return The compression level
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Set compression level.
+     * @param compressionLevel The compression level, from 0 to 9
+     */
+    public void setCompressionLevel(
+        final int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Get compression threshold.
+     * @return The minimum size of a response body to compress
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Set compression threshold.
+     * @param compressionThreshold The minimum size of a response body to compress
+     */
+    public void setCompressionThreshold(
+        final int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Get decompression limit.
+     * @return The maximum size of a decompressed request body, or -1 to use the maximum entity size
+     */
+    public long getDecompressionLimit() {
+        return decompressionLimit;
+    }
+
+    /**
+     * Set decompression limit.
+     * @param decompressionLimit The maximum size of a decompressed request body, or -1 to use the maximum entity size
+     */
+    public void setDecompressionLimit(
+        final long decompressionLimit) {
+        this.decompressionLimit = decompressionLimit;
+    }
+
+    /**
+     * Get Undertow configuration.
+     * @return The Undertow configuration
+     */
+    public UndertowConfig getUndertow() {
+        return undertow;
+    }
+
+    /**
+     * Set Undertow configuration.
+     * @param undertow The Undertow configuration
+     */
+    public void setUndertow(
+        final UndertowConfig undertow) {
+        this.undertow = undertow;
+    }
+
+    /**
+     * Get streaming flush interval.
+     * @return The number of elements after which a streaming response is flushed, or 0 to never flush explicitly
+     */
+    public int getStreamingFlushInterval() {
+        return streamingFlushInterval;
+    }
+
+    /**
+     * Set streaming flush interval.
+     * @param streamingFlushInterval The number of elements after which a streaming response is flushed, or 0 to never flush explicitly
+     */
+    public void setStreamingFlushInterval(
+        final int streamingFlushInterval) {
+        this.streamingFlushInterval = streamingFlushInterval;
+    }
+
+    /**
+     * Get optimize mapper indicator.
+     * @return true if the object mappers of the message converters should be optimized, false otherwise
+     */
+    public boolean isOptimizeMapper() {
+        return optimizeMapper;
+    }
+
+    /**
+     * Set optimize mapper indicator.
+     * @param optimizeMapper The optimize mapper indicator
+     */
+    public void setOptimizeMapper(
+        final boolean optimizeMapper) {
+        this.optimizeMapper = optimizeMapper;
+    }
+
+    /**
+     * Get generated codecs indicator.
+     * @return true if the generated codecs of {@code JsonCodec} classes should be registered with the object mappers of the message converters, false otherwise
+     */
+    public boolean isGeneratedCodecs() {
+        return generatedCodecs;
+    }
+
+    /**
+     * Set generated codecs indicator.
+     * @param generatedCodecs The generated codecs indicator
+     */
+    public void setGeneratedCodecs(
+        final boolean generatedCodecs) {
+        this.generatedCodecs = generatedCodecs;
+    }
+
+    /**
+     * Get fields indicator.
+     * @return true if clients may select sparse fieldsets of responses, false otherwise
+     */
+    public boolean isFields() {
+        return fields;
+    }
+
+    /**
+     * Set fields indicator.
+     * @param fields The fields indicator
+     */
+    public void setFields(
+        final boolean fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Get fields parameter.
+     * @return The name of the query parameter which selects the sparse fieldset of a response
+     */
+    public String getFieldsParameter() {
+        return fieldsParameter;
+    }
+
+    /**
+     * Set fields parameter.
+     * @param fieldsParameter The name of the query parameter which selects the sparse fieldset of a response
+     */
+    public void setFieldsParameter(
+        final String fieldsParameter) {
+        this.fieldsParameter = fieldsParameter;
+    }
+
+    /**
+     * Get fields header.
+     * @return The name of the header which selects the sparse fieldset of a response
+     */
+    public String getFieldsHeader() {
+        return fieldsHeader;
+    }
+
+    /**
+     * Set fields header.
+     * @param fieldsHeader The name of the header which selects the sparse fieldset of a response
+     */
+    public void setFieldsHeader(
+        final String fieldsHeader) {
+        this.fieldsHeader = fieldsHeader;
+    }
+
+    /**
+     * Get fields cache size.
+     * @return The maximum number of parsed sparse fieldsets to cache
+     */
+    public int getFieldsCacheSize() {
+        return fieldsCacheSize;
+    }
+
+    /**
+     * Set fields cache size.
+     * @param fieldsCacheSize The maximum number of parsed sparse fieldsets to cache
+     */
+    public void setFieldsCacheSize(
+        final int fieldsCacheSize) {
+        this.fieldsCacheSize = fieldsCacheSize;
+    }
+
+    /**
+     * Get payload logging indicator.
+     * @return true if the payloads of requests and responses should be logged at debug level, false otherwise
+     */
+    public boolean isPayloadLogging() {
+        return payloadLogging;
+    }
+
+    /**
+     * Set payload logging indicator.
+     * @param payloadLogging The payload logging indicator
+     */
+    public void setPayloadLogging(
+        final boolean payloadLogging) {
+        this.payloadLogging = payloadLogging;
+    }
+
+    /**
+     * Get payload sample rate.
+     * @return The fraction of payloads to log, from 0 to 1
+     */
+    public double getPayloadSampleRate() {
+        return payloadSampleRate;
+    }
+
+    /**
+     * Set payload sample rate.
+     * @param payloadSampleRate The fraction of payloads to log, from 0 to 1
+     */
+    public void setPayloadSampleRate(
+        final double payloadSampleRate) {
+        this.payloadSampleRate = payloadSampleRate;
+    }
+
+    /**
+     * Get payload paths.
+     * @return The request path prefixes on which payloads should be logged, or empty to log payloads on all paths
+     */
+    public List<String> getPayloadPaths() {
+        return payloadPaths;
+    }
+
+    /**
+     * Set payload paths.
+     * @param payloadPaths The request path prefixes on which payloads should be logged, or empty to log payloads on all paths
+     */
+    public void setPayloadPaths(
+        final List<String> payloadPaths) {
+        this.payloadPaths = payloadPaths;
+    }
+
+    /**
+     * Get payload maximum length.
+     * @return The maximum number of characters of a payload to log, or 0 to log payloads in full
+     */
+    public int getPayloadMaxLength() {
+        return payloadMaxLength;
+    }
+
+    /**
+     * Set payload maximum length.
+     * @param payloadMaxLength The maximum number of characters of a payload to log, or 0 to log payloads in full
+     */
+    public void setPayloadMaxLength(
+        final int payloadMaxLength) {
+        this.payloadMaxLength = payloadMaxLength;
+    }
+
+    /**
+     * Get payload redact fields.
+     * @return The names of the JSON fields whose values should be redacted from logged payloads
+     */
+    public List<String> getPayloadRedactFields() {
+        return payloadRedactFields;
+    }
+
+    /**
+     * Set payload redact fields.
+     * @param payloadRedactFields The names of the JSON fields whose values should be redacted from logged payloads
+     */
+    public void setPayloadRedactFields(
+        final List<String> payloadRedactFields) {
+        this.payloadRedactFields = payloadRedactFields;
+    }
+
+    /**
+     * Get payload asynchronous logging indicator.
+     * @return true if payloads should be logged on a background thread, false otherwise
+     */
+    public boolean isPayloadAsync() {
+        return payloadAsync;
+    }
+
+    /**
+     * Set payload asynchronous logging indicator.
+     * @param payloadAsync The payload asynchronous logging indicator
+     */
+    public void setPayloadAsync(
+        final boolean payloadAsync) {
+        this.payloadAsync = payloadAsync;
+    }
+
+}
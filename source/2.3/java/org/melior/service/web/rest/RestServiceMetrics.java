@@ -0,0 +1,193 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.management.ObjectName;
+import javax.servlet.http.HttpServletRequest;
+import org.melior.logging.core.Logger;
+import org.melior.logging.core.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+import org.xnio.management.XnioWorkerMXBean;
+import io.undertow.servlet.handlers.ServletRequestContext;
+
+/**
+ * Holds the metrics of the operations of a REST service.  An operation is identified
+ * by the HTTP method and the route pattern of the handler which serves the request,
+ * rather than by the request URI, which keeps the number of operations bounded when
+ * the URIs contain path variables.  Requests which are not matched by any handler are
+ * recorded against a single {@code UNMATCHED} operation.
+ * <p>
+ * The metrics of each operation are registered with the platform MBean server.  The
+ * metrics of the worker pool of the embedded Undertow server, which include the depth of
+ * the worker queue and the number of busy worker threads, are also made available.
+ * @author Melior
+ * @since 2.3
+ * @see OperationMetrics
+ */
+@Component
+public class RestServiceMetrics {
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    protected Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private ConcurrentHashMap<String, AtomicReferenceArray<OperationMetrics>> operations;
+
+    private volatile XnioWorkerMXBean worker;
+
+    /**
+     * Constructor.
+     */
+    public RestServiceMetrics() {
+
+        super();
+
+        this.operations = new ConcurrentHashMap<String, AtomicReferenceArray<OperationMetrics>>();
+    }
+
+    /**
+     * Start recording metrics for request.
+     * @param request The request
+     * @return The metrics of the operation which serves the request
+     */
+    OperationMetrics startRequest(
+        final HttpServletRequest request) {
+
+        OperationMetrics metrics;
+        ServletRequestContext requestContext;
+
+        metrics = getOperationMetrics(request);
+        metrics.start();
+
+        requestContext = ServletRequestContext.current();
+
+        if (requestContext != null) {
+            requestContext.getExchange().addExchangeCompleteListener(metrics.getResponseListener());
+
+            if (worker == null) {
+                worker = requestContext.getExchange().getConnection().getWorker().getMXBean();
+            }
+
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Get metrics of the operation which serves the request.
+     * @param request The request
+     * @return The metrics of the operation
+     */
+    OperationMetrics getOperationMetrics(
+        final HttpServletRequest request) {
+
+        Object pattern;
+        String route;
+        HttpMethod method;
+        int index;
+        AtomicReferenceArray<OperationMetrics> methodMetrics;
+        OperationMetrics metrics;
+
+        pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        route = (pattern instanceof String) ? (String) pattern : UNMATCHED;
+        method = HttpMethod.resolve(request.getMethod());
+        index = (method == null) ? METHODS.length : method.ordinal();
+
+        methodMetrics = operations.get(route);
+
+        if (methodMetrics == null) {
+            methodMetrics = operations.computeIfAbsent(route, key -> new AtomicReferenceArray<OperationMetrics>(METHODS.length + 1));
+        }
+
+        metrics = methodMetrics.get(index);
+
+        if (metrics == null) {
+
+            synchronized (methodMetrics) {
+                metrics = methodMetrics.get(index);
+
+                if (metrics == null) {
+                    metrics = createOperationMetrics(((method == null) ? "OTHER" : method.name()) + " " + route);
+                    methodMetrics.set(index, metrics);
+                }
+
+            }
+
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Create metrics of operation and register them with the platform MBean server.
+     * @param operation The operation
+     * @return The metrics of the operation
+     */
+    private OperationMetrics createOperationMetrics(
+        final String operation) {
+
+        String methodName = "createOperationMetrics";
+        OperationMetrics metrics;
+
+        metrics = new OperationMetrics(operation);
+
+        try {
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+                new ObjectName("org.melior:type=RestOperation,name=" + ObjectName.quote(operation)));
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to register metrics of operation [", operation, "]: ", exception.getMessage(), exception);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Get metrics of all operations.
+     * @return The metrics of all operations
+     */
+    public List<OperationMetrics> getOperations() {
+
+        List<OperationMetrics> list;
+
+        list = new ArrayList<OperationMetrics>();
+
+        for (AtomicReferenceArray<OperationMetrics> methodMetrics : operations.values()) {
+
+            for (int i = 0; i < methodMetrics.length(); i++) {
+
+                if (methodMetrics.get(i) != null) {
+                    list.add(methodMetrics.get(i));
+                }
+
+            }
+
+        }
+
+        return list;
+    }
+
+    /**
+     * Get metrics of the worker pool of the embedded Undertow server.
+     * @return The metrics of the worker pool, or {@code null} if no request has been served yet
+     */
+    public XnioWorkerMXBean getWorker() {
+        return worker;
+    }
+
+}
@@ -0,0 +1,199 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+/**
+ * Writes a {@code Stream} or an {@code Iterator} which is returned by a {@code Controller}
+ * incrementally, either as a JSON array or as newline delimited JSON, without materializing
+ * the elements in memory.
+ * <p>
+ * Elements are written straight to the response as they are produced.  The response is
+ * flushed after every configured number of elements, and otherwise whenever the buffer of
+ * the servlet container fills up.  Because the writes block while the client is not reading,
+ * a slow client holds back the production of elements.  The {@code Stream}, or an
+ * {@code Iterator} which is {@code AutoCloseable}, is closed when the response ends.
+ * @author Melior
+ * @since 2.3
+ */
+class StreamingHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private ObjectWriter objectWriter;
+
+    private int flushInterval;
+
+    /**
+     * Constructor.
+     * @param objectMapper The object mapper
+     * @param flushInterval The number of elements after which the response is flushed, or 0 to never flush explicitly
+     */
+    StreamingHttpMessageConverter(
+        final ObjectMapper objectMapper,
+        final int flushInterval) {
+
+        super(MediaType.APPLICATION_JSON, APPLICATION_NDJSON);
+
+        this.objectWriter = objectMapper.writer();
+
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Indicate whether the converter supports the given class.
+     * @param clazz The class
+     * @return true if the class is a {@code Stream} or an {@code Iterator}, false otherwise
+     */
+    protected boolean supports(
+        final Class<?> clazz) {
+
+        return (Stream.class.isAssignableFrom(clazz) == true) || (Iterator.class.isAssignableFrom(clazz) == true);
+    }
+
+    /**
+     * Indicate whether the converter can read the given class.
+     * @param clazz The class
+     * @param mediaType The media type
+     * @return false, as the converter only writes
+     */
+    public boolean canRead(
+        final Class<?> clazz,
+        final MediaType mediaType) {
+
+        return false;
+    }
+
+    /**
+     * Read object from input message.
+     * @param clazz The class
+     * @param inputMessage The input message
+     * @return Nothing
+     * @throws HttpMessageNotReadableException always
+     */
+    protected Object readInternal(
+        final Class<? extends Object> clazz,
+        final HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+
+        throw new HttpMessageNotReadableException("Streaming request bodies are not supported.", inputMessage);
+    }
+
+    /**
+     * Write elements of stream or iterator to output message.
+     * @param body The stream or iterator
+     * @param outputMessage The output message
+     * @throws IOException if unable to write to the output message
+     * @throws HttpMessageNotWritableException if unable to serialize an element
+     */
+    protected void writeInternal(
+        final Object body,
+        final HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+
+        Iterator<?> iterator;
+        MediaType contentType;
+        boolean ndjson;
+        OutputStream outputStream;
+        SequenceWriter sequenceWriter;
+        int count;
+
+        iterator = (body instanceof Stream) ? ((Stream<?>) body).iterator() : (Iterator<?>) body;
+        contentType = outputMessage.getHeaders().getContentType();
+        ndjson = (contentType != null) && (contentType.isCompatibleWith(APPLICATION_NDJSON) == true);
+        outputStream = new NonClosingStream(outputMessage.getBody());
+
+        try {
+
+            sequenceWriter = (ndjson == true)
+                ? objectWriter.withRootValueSeparator("\n").writeValues(outputStream)
+                : objectWriter.writeValuesAsArray(outputStream);
+
+            count = 0;
+
+            while (iterator.hasNext() == true) {
+                sequenceWriter.write(iterator.next());
+                count++;
+
+                if ((flushInterval > 0) && (count % flushInterval == 0)) {
+                    sequenceWriter.flush();
+                }
+
+            }
+
+            sequenceWriter.close();
+
+            if ((ndjson == true) && (count > 0)) {
+                outputStream.write('\n');
+            }
+
+        }
+        finally {
+            close(body);
+        }
+
+    }
+
+    /**
+     * Close stream or iterator.
+     * @param body The stream or iterator
+     */
+    private void close(
+        final Object body) {
+
+        try {
+
+            if (body instanceof AutoCloseable) {
+                ((AutoCloseable) body).close();
+            }
+
+        }
+        catch (Exception exception) {
+            logger.warn("Failed to close streaming response body: " + exception.getMessage(), exception);
+        }
+
+    }
+
+    /**
+     * Output stream which leaves the underlying output stream open, so that the
+     * servlet container remains responsible for closing it.
+     */
+    private static final class NonClosingStream extends FilterOutputStream {
+
+        private NonClosingStream(
+            final OutputStream outputStream) {
+
+            super(outputStream);
+        }
+
+        public void write(
+            final byte[] bytes,
+            final int offset,
+            final int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        public void close() throws IOException {
+            out.flush();
+        }
+
+    }
+
+}
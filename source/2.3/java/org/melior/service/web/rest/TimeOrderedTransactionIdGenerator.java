@@ -0,0 +1,119 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique, time-ordered transaction identifiers in the layout of a version 7 UUID.
+ * <p>
+ * The most significant 48 bits hold the Unix time in milliseconds, followed by the version
+ * and a 12-bit sequence which orders the identifiers that are generated within the same
+ * millisecond.  The least significant bits hold the variant, a 30-bit node identifier and a
+ * 32-bit identifier of the generator which is chosen randomly when the generator is created.
+ * <p>
+ * The time and the sequence are held together in a single counter, which is advanced with
+ * compare-and-set, so identifiers are generated without locks, without state per thread,
+ * and without calls to a shared {@code SecureRandom}.  If more than 4096 identifiers are
+ * generated within one millisecond, then the sequence carries over into the time, which
+ * then runs ahead of the clock until the clock catches up.
+ * @author Melior
+ * @since 2.3
+ */
+final class TimeOrderedTransactionIdGenerator implements TransactionIdGenerator {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private long nodeBits;
+
+    private AtomicLong clock;
+
+    /**
+     * Constructor.
+     * @param nodeId The node identifier, of which the lower 30 bits are used
+     */
+    TimeOrderedTransactionIdGenerator(
+        final long nodeId) {
+
+        super();
+
+        this.nodeBits = 0x8000000000000000L | ((nodeId & 0x3FFFFFFFL) << 32) | (new SecureRandom().nextInt() & 0xFFFFFFFFL);
+
+        this.clock = new AtomicLong();
+    }
+
+    /**
+     * Generate transaction identifier.
+     * @return The transaction identifier
+     */
+    public String generate() {
+
+        long current;
+        long next;
+        long mostSigBits;
+
+        do {
+            current = clock.get();
+            next = Math.max(current + 1, System.currentTimeMillis() << 12);
+        }
+        while (clock.compareAndSet(current, next) == false);
+
+        mostSigBits = ((next >>> 12) << 16) | 0x7000L | (next & 0xFFFL);
+
+        return format(mostSigBits, nodeBits);
+    }
+
+    /**
+     * Format identifier in the canonical 8-4-4-4-12 UUID representation.
+     * @param mostSigBits The most significant bits
+     * @param leastSigBits The least significant bits
+     * @return The formatted identifier
+     */
+    private static String format(
+        final long mostSigBits,
+        final long leastSigBits) {
+
+        char[] chars = new char[36];
+
+        putHex(chars, 0, mostSigBits >>> 32, 8);
+        chars[8] = '-';
+        putHex(chars, 9, mostSigBits >>> 16, 4);
+        chars[13] = '-';
+        putHex(chars, 14, mostSigBits, 4);
+        chars[18] = '-';
+        putHex(chars, 19, leastSigBits >>> 48, 4);
+        chars[23] = '-';
+        putHex(chars, 24, leastSigBits, 12);
+
+        return new String(chars);
+    }
+
+    /**
+     * Write hexadecimal digits into character array.
+     * @param chars The character array
+     * @param offset The offset of the first digit
+     * @param value The value, of which the lower digits are written
+     * @param width The number of digits
+     */
+    private static void putHex(
+        final char[] chars,
+        final int offset,
+        final long value,
+        final int width) {
+
+        long remainder = value;
+
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (remainder & 0xF)];
+            remainder >>>= 4;
+        }
+
+    }
+
+}
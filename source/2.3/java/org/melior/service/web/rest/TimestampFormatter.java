@@ -0,0 +1,239 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * Formats epoch timestamps as {@code yyyy-MM-dd HH:mm:ss.SSS} in the default time zone.
+ * <p>
+ * The date portion and the zone offset are resolved once per day (or once per zone offset
+ * transition), and the portion up to the second is rendered once per second.  The most
+ * recently formatted timestamp is shared by all threads in a single immutable entry, which
+ * is replaced by whichever thread first formats a new millisecond, so that the threads
+ * which stamp responses within the same millisecond reuse the same {@code String}, and no
+ * state is kept per thread.
+ * @author Melior
+ * @since 2.3
+ */
+final class TimestampFormatter {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd ");
+
+    private ZoneId zoneId;
+
+    private ZoneRules zoneRules;
+
+    private volatile Day day;
+
+    private volatile Entry entry;
+
+    /**
+     * Constructor.
+     */
+    TimestampFormatter() {
+
+        super();
+
+        this.zoneId = TimeZone.getDefault().toZoneId();
+
+        this.zoneRules = zoneId.getRules();
+    }
+
+    /**
+     * Format timestamp.
+     * @param epochMillis The timestamp in milliseconds since the epoch
+     * @return The formatted timestamp
+     */
+    String format(
+        final long epochMillis) {
+
+        Entry entry;
+        Day day;
+        char[] prefix;
+        char[] chars;
+        int millisOfDay;
+        long secondMillis;
+
+        entry = this.entry;
+
+        if ((entry != null) && (entry.epochMillis == epochMillis)) {
+            return entry.text;
+        }
+
+        day = this.day;
+
+        if ((day == null) || (epochMillis < day.startMillis) || (epochMillis >= day.endMillis)) {
+            day = this.day = getDay(epochMillis);
+        }
+
+        millisOfDay = (int) (epochMillis - day.midnightMillis);
+        secondMillis = epochMillis - (millisOfDay % 1000);
+
+        if ((entry != null) && (entry.day == day) && (entry.secondMillis == secondMillis)) {
+            prefix = entry.prefix;
+        }
+        else {
+            prefix = new char[20];
+            System.arraycopy(day.prefix, 0, prefix, 0, 11);
+            putDigits(prefix, 11, millisOfDay / 3_600_000, 2);
+            prefix[13] = ':';
+            putDigits(prefix, 14, (millisOfDay / 60_000) % 60, 2);
+            prefix[16] = ':';
+            putDigits(prefix, 17, (millisOfDay / 1000) % 60, 2);
+            prefix[19] = '.';
+        }
+
+        chars = new char[23];
+        System.arraycopy(prefix, 0, chars, 0, 20);
+        putDigits(chars, 20, millisOfDay % 1000, 3);
+
+        entry = new Entry(day, secondMillis, prefix, epochMillis, new String(chars));
+        this.entry = entry;
+
+        return entry.text;
+    }
+
+    /**
+     * Resolve the day which contains the given timestamp.  The day starts at local midnight
+     * or at the previous zone offset transition, whichever comes last, and ends at local
+     * midnight or at the next zone offset transition, whichever comes first, so that the
+     * zone offset is the same throughout the day.
+     * @param epochMillis The timestamp in milliseconds since the epoch
+     * @return The day
+     */
+    private Day getDay(
+        final long epochMillis) {
+
+        Instant instant;
+        LocalDateTime localDateTime;
+        ZoneOffsetTransition transition;
+        long midnightMillis;
+        long startMillis;
+        long endMillis;
+
+        instant = Instant.ofEpochMilli(epochMillis);
+        localDateTime = LocalDateTime.ofInstant(instant, zoneId);
+
+        midnightMillis = epochMillis - (localDateTime.toLocalTime().toNanoOfDay() / 1_000_000L);
+        startMillis = midnightMillis;
+        endMillis = midnightMillis + MILLIS_PER_DAY;
+
+        transition = zoneRules.previousTransition(instant.plusMillis(1));
+
+        if (transition != null) {
+            startMillis = Math.max(startMillis, transition.toEpochSecond() * 1000L);
+        }
+
+        transition = zoneRules.nextTransition(instant);
+
+        if (transition != null) {
+            endMillis = Math.min(endMillis, transition.toEpochSecond() * 1000L);
+        }
+
+        return new Day(midnightMillis, startMillis, endMillis, DATE_FORMAT.format(localDateTime).toCharArray());
+    }
+
+    /**
+     * Write zero-padded decimal digits into character array.
+     * @param chars The character array
+     * @param offset The offset of the first digit
+     * @param value The value
+     * @param width The number of digits
+     */
+    private static void putDigits(
+        final char[] chars,
+        final int offset,
+        final int value,
+        final int width) {
+
+        int remainder = value;
+
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + (remainder % 10));
+            remainder /= 10;
+        }
+
+    }
+
+    /**
+     * The date portion of a timestamp, valid between a start and an end instant.  The time
+     * of day is counted from midnight at the zone offset of the day.
+     */
+    private static final class Day {
+
+        private final long midnightMillis;
+
+        private final long startMillis;
+
+        private final long endMillis;
+
+        private final char[] prefix;
+
+        private Day(
+            final long midnightMillis,
+            final long startMillis,
+            final long endMillis,
+            final char[] prefix) {
+
+            this.midnightMillis = midnightMillis;
+
+            this.startMillis = startMillis;
+
+            this.endMillis = endMillis;
+
+            this.prefix = prefix;
+        }
+
+    }
+
+    /**
+     * The most recently formatted timestamp, with the portion of the timestamp up to the
+     * second.  An entry is never modified after it has been published.
+     */
+    private static final class Entry {
+
+        private final Day day;
+
+        private final long secondMillis;
+
+        private final char[] prefix;
+
+        private final long epochMillis;
+
+        private final String text;
+
+        private Entry(
+            final Day day,
+            final long secondMillis,
+            final char[] prefix,
+            final long epochMillis,
+            final String text) {
+
+            this.day = day;
+
+            this.secondMillis = secondMillis;
+
+            this.prefix = prefix;
+
+            this.epochMillis = epochMillis;
+
+            this.text = text;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.melior.context.transaction.TransactionContext;
+
+/**
+ * An immutable copy of the tracking data in the {@code TransactionContext} of the current
+ * thread, which may be restored on another thread.  This allows the work of a request to
+ * move between threads, for example when a {@code Controller} returns a {@code CompletableFuture},
+ * while the {@code RestClient} keeps forwarding the tracking data of the request to the
+ * HTTP end-points that it calls.
+ * <p>
+ * Restoring a snapshot starts a new transaction in the transaction context of the thread, so
+ * the start time of the original transaction is carried with the snapshot instead.
+ * <p>
+ * <pre>
+ * return CompletableFuture.supplyAsync(TransactionContextSnapshot.capture().wrap(() -&gt; client.get(...)), executor);
+ * </pre>
+ * @author Melior
+ * @since 2.3
+ */
+public final class TransactionContextSnapshot {
+
+    static final String ATTRIBUTE = TransactionContextSnapshot.class.getName();
+
+    private final Thread thread;
+
+    private final String originId;
+
+    private final String transactionId;
+
+    private final String correlationId;
+
+    private final String operation;
+
+    private final long startTimeMillis;
+
+    /**
+     * Constructor.
+     * @param transactionContext The transaction context
+     */
+    private TransactionContextSnapshot(
+        final TransactionContext transactionContext) {
+
+        super();
+
+        this.thread = Thread.currentThread();
+
+        this.originId = transactionContext.getOriginId();
+
+        this.transactionId = transactionContext.getTransactionId();
+
+        this.correlationId = transactionContext.getCorrelationId();
+
+        this.operation = transactionContext.getOperation();
+
+        this.startTimeMillis = transactionContext.getStartTimeMillis();
+    }
+
+    /**
+     * Capture tracking data in the transaction context of the current thread.
+     * @return The snapshot
+     */
+    public static TransactionContextSnapshot capture() {
+        return new TransactionContextSnapshot(TransactionContext.get());
+    }
+
+    /**
+     * Restore tracking data into the transaction context of the current thread.
+     */
+    public void restore() {
+
+        TransactionContext transactionContext;
+
+        transactionContext = TransactionContext.get();
+        transactionContext.startTransaction();
+        transactionContext.setOriginId(originId);
+        transactionContext.setTransactionId(transactionId);
+        transactionContext.setCorrelationId(correlationId);
+        transactionContext.setOperation(operation);
+    }
+
+    /**
+     * Get start time of transaction.
+     * @return The start time of the transaction which was captured, in milliseconds
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * Wrap task so that it runs with the tracking data of this snapshot.  If the task runs on
+     * another thread, then the transaction context of that thread is reset when the task ends.
+     * @param task The task
+     * @return The wrapped task
+     */
+    public Runnable wrap(
+        final Runnable task) {
+
+        return () -> {
+
+            if (Thread.currentThread() == thread) {
+                task.run();
+
+                return;
+            }
+
+            restore();
+
+            try {
+
+                task.run();
+            }
+            finally {
+                TransactionContext.get().reset();
+            }
+
+        };
+
+    }
+
+    /**
+     * Wrap task so that it runs with the tracking data of this snapshot.  If the task runs on
+     * another thread, then the transaction context of that thread is reset when the task ends.
+     * @param <T> The result type
+     * @param task The task
+     * @return The wrapped task
+     */
+    public <T> Supplier<T> wrap(
+        final Supplier<T> task) {
+
+        return () -> {
+
+            if (Thread.currentThread() == thread) {
+                return task.get();
+            }
+
+            restore();
+
+            try {
+
+                return task.get();
+            }
+            finally {
+                TransactionContext.get().reset();
+            }
+
+        };
+
+    }
+
+    /**
+     * Wrap executor so that every task that is submitted to it runs with the tracking data
+     * of the thread that submitted the task.
+     * @param executor The executor
+     * @return The wrapped executor
+     */
+    public static Executor wrap(
+        final Executor executor) {
+
+        return (task) -> executor.execute(capture().wrap(task));
+    }
+
+}
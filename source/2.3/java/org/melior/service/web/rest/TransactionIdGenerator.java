@@ -0,0 +1,92 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates transaction identifiers for HTTP REST requests which are received
+ * without an "X-Request-Id" or "X-Correlation-Id" header.
+ * <p>
+ * The generator which is used by the {@code RestRequestInterceptor} is selected
+ * with the {@code server.request.transaction-id-generator} application property,
+ * which may be {@code time-ordered} (the default), {@code random}, or the fully
+ * qualified name of a class which implements this interface and which has a
+ * public no-argument constructor.
+ * @author Melior
+ * @since 2.3
+ * @see RestRequestInterceptor
+ */
+@FunctionalInterface
+public interface TransactionIdGenerator {
+
+    /**
+     * Generate transaction identifier.
+     * @return The transaction identifier
+     */
+    public String generate();
+
+    /**
+     * Create a generator which produces random (version 4) UUIDs.  The generator
+     * draws on the shared {@code SecureRandom} of the JVM for every identifier.
+     * @return The transaction identifier generator
+     */
+    public static TransactionIdGenerator ofRandom() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * Create a generator which produces unique, time-ordered (version 7 style) UUIDs
+     * for a randomly chosen node identifier.
+     * @return The transaction identifier generator
+     */
+    public static TransactionIdGenerator ofTimeOrdered() {
+        return ofTimeOrdered(new SecureRandom().nextLong());
+    }
+
+    /**
+     * Create a generator which produces unique, time-ordered (version 7 style) UUIDs
+     * for the given node identifier.
+     * @param nodeId The node identifier, of which the lower 30 bits are used
+     * @return The transaction identifier generator
+     */
+    public static TransactionIdGenerator ofTimeOrdered(
+        final long nodeId) {
+        return new TimeOrderedTransactionIdGenerator(nodeId);
+    }
+
+    /**
+     * Create the generator with the given name.
+     * @param name The name of the generator, or the class name of a custom generator
+     * @param nodeId The node identifier, or {@code null} to choose one randomly
+     * @return The transaction identifier generator
+     */
+    public static TransactionIdGenerator of(
+        final String name,
+        final Long nodeId) {
+
+        if ((name == null) || (name.length() == 0) || ("time-ordered".equals(name) == true)) {
+            return (nodeId == null) ? ofTimeOrdered() : ofTimeOrdered(nodeId);
+        }
+
+        if ("random".equals(name) == true) {
+            return ofRandom();
+        }
+
+        try {
+
+            return Class.forName(name).asSubclass(TransactionIdGenerator.class).getConstructor().newInstance();
+        }
+        catch (Exception exception) {
+            throw new IllegalArgumentException("Failed to create transaction id generator [" + name + "]: " + exception.getMessage(), exception);
+        }
+
+    }
+
+}
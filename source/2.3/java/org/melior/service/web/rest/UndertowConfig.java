@@ -0,0 +1,239 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+
+/**
+ * Configuration parameters for the embedded Undertow server, with defaults.  The defaults
+ * for the number of I/O threads and worker threads are derived from the number of available
+ * processors.
+ * @author Melior
+ * @since 2.3
+ * @see UndertowCustomizer
+ */
+public class UndertowConfig {
+
+    private int ioThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private int workerThreads = 0;
+
+    private int bufferSize = 16384;
+
+    private boolean directBuffers = true;
+
+    private boolean keepAlive = true;
+
+    private long maxEntitySize = -1;
+
+    private int backlog = 1024;
+
+    private boolean http2 = false;
+
+    private int http2MaxConcurrentStreams = 256;
+
+    private int http2InitialWindowSize = 1048576;
+
+    private int http2HeaderTableSize = 4096;
+
+    /**
+     * Constructor.
+     */
+    public UndertowConfig() {
+
+        super();
+    }
+
+    /**
+     * Get number of I/O threads.
+     * @return The number of I/O threads
+     */
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Set number of I/O threads.
+     * @param ioThreads The number of I/O threads
+     */
+    public void setIoThreads(
+        final int ioThreads) {
+        this.ioThreads = ioThreads;
+    }
+
+    /**
+     * Get number of worker threads.  Unless the number of worker threads is set explicitly,
+     * it is derived from the number of I/O threads.
+     * @return The number of worker threads
+     */
+    public int getWorkerThreads() {
+        return (workerThreads > 0) ? workerThreads : ioThreads * 16;
+    }
+
+    /**
+     * Set number of worker threads.
+     * @param workerThreads The number of worker threads, or 0 to derive it from the number of I/O threads
+     */
+    public void setWorkerThreads(
+        final int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Get buffer size.
+     * @return The buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Set buffer size.
+     * @param bufferSize The buffer size
+     */
+    public void setBufferSize(
+        final int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Get direct buffers indicator.
+     * @return true if buffers are allocated outside the heap, false otherwise
+     */
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    /**
+     * Set direct buffers indicator.
+     * @param directBuffers The direct buffers indicator
+     */
+    public void setDirectBuffers(
+        final boolean directBuffers) {
+        this.directBuffers = directBuffers;
+    }
+
+    /**
+     * Get keep alive indicator.
+     * @return true if the "Connection: keep-alive" header is always set, false otherwise
+     */
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Set keep alive indicator.
+     * @param keepAlive The keep alive indicator
+     */
+    public void setKeepAlive(
+        final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Get maximum entity size.
+     * @return The maximum size of a request body, or -1 if unlimited
+     */
+    public long getMaxEntitySize() {
+        return maxEntitySize;
+    }
+
+    /**
+     * Set maximum entity size.
+     * @param maxEntitySize The maximum size of a request body, or -1 if unlimited
+     */
+    public void setMaxEntitySize(
+        final long maxEntitySize) {
+        this.maxEntitySize = maxEntitySize;
+    }
+
+    /**
+     * Get backlog.
+     * @return The maximum number of pending connections
+     */
+    public int getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * Set backlog.
+     * @param backlog The maximum number of pending connections
+     */
+    public void setBacklog(
+        final int backlog) {
+        this.backlog = backlog;
+    }
+
+    /**
+     * Get HTTP/2 indicator.
+     * @return true if HTTP/2 is enabled, false otherwise
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Set HTTP/2 indicator.
+     * @param http2 The HTTP/2 indicator
+     */
+    public void setHttp2(
+        final boolean http2) {
+        this.http2 = http2;
+    }
+
+    /**
+     * Get maximum number of concurrent HTTP/2 streams per connection.
+     * @return The maximum number of concurrent streams
+     */
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    /**
+     * Set maximum number of concurrent HTTP/2 streams per connection.
+     * @param http2MaxConcurrentStreams The maximum number of concurrent streams
+     */
+    public void setHttp2MaxConcurrentStreams(
+        final int http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    /**
+     * Get initial HTTP/2 flow control window size.
+     * @return The initial window size in bytes
+     */
+    public int getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    /**
+     * Set initial HTTP/2 flow control window size.
+     * @param http2InitialWindowSize The initial window size in bytes
+     */
+    public void setHttp2InitialWindowSize(
+        final int http2InitialWindowSize) {
+        this.http2InitialWindowSize = http2InitialWindowSize;
+    }
+
+    /**
+     * Get HTTP/2 header table size.
+     * @return The header table size in bytes
+     */
+    public int getHttp2HeaderTableSize() {
+        return http2HeaderTableSize;
+    }
+
+    /**
+     * Set HTTP/2 header table size.
+     * @param http2HeaderTableSize The header table size in bytes
+     */
+    public void setHttp2HeaderTableSize(
+        final int http2HeaderTableSize) {
+        this.http2HeaderTableSize = http2HeaderTableSize;
+    }
+
+}
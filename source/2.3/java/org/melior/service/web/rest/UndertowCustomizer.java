@@ -0,0 +1,121 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.core.Ordered;
+import org.xnio.Options;
+import io.undertow.UndertowOptions;
+
+/**
+ * Tunes the embedded Undertow server with the configured I/O threads, worker threads,
+ * buffers, keep-alive behaviour, maximum entity size and connection backlog.
+ * <p>
+ * When HTTP/2 is enabled, then HTTP/2 is negotiated with ALPN on TLS connections, and is
+ * accepted on cleartext connections either as an upgrade from HTTP/1.1 (h2c) or with prior
+ * knowledge, which suits clients within the same cluster.
+ * <p>
+ * The customizer runs after the customizer of Spring Boot, so that the server options which
+ * it sets are not overwritten.  The thread and buffer settings are only applied when the
+ * corresponding {@code server.undertow} application properties are not set explicitly, so
+ * that those properties still take precedence.  The keep-alive behaviour and the maximum
+ * entity size are only applied when they differ from the defaults of Undertow, so that the
+ * {@code server.undertow.always-set-keep-alive} and {@code server.undertow.max-http-post-size}
+ * application properties keep working when they are not set here.
+ * @author Melior
+ * @since 2.3
+ * @see UndertowConfig
+ */
+public class UndertowCustomizer implements WebServerFactoryCustomizer<UndertowServletWebServerFactory>, Ordered {
+
+    private UndertowConfig configuration;
+
+    private ServerProperties.Undertow serverProperties;
+
+    /**
+     * Constructor.
+     * @param configuration The Undertow configuration
+     */
+    public UndertowCustomizer(
+        final UndertowConfig configuration) {
+
+        this(configuration, null);
+    }
+
+    /**
+     * Constructor.
+     * @param configuration The Undertow configuration
+     * @param serverProperties The server properties of Spring Boot, or {@code null} if not available
+     */
+    public UndertowCustomizer(
+        final UndertowConfig configuration,
+        final ServerProperties serverProperties) {
+
+        super();
+
+        this.configuration = configuration;
+
+        this.serverProperties = (serverProperties == null) ? new ServerProperties.Undertow() : serverProperties.getUndertow();
+    }
+
+    /**
+     * Customize web server factory.
+     * @param factory The web server factory
+     */
+    public void customize(
+        final UndertowServletWebServerFactory factory) {
+
+        if (serverProperties.getThreads().getIo() == null) {
+            factory.setIoThreads(configuration.getIoThreads());
+        }
+
+        if (serverProperties.getThreads().getWorker() == null) {
+            factory.setWorkerThreads(configuration.getWorkerThreads());
+        }
+
+        if (serverProperties.getBufferSize() == null) {
+            factory.setBufferSize(configuration.getBufferSize());
+        }
+
+        if (serverProperties.getDirectBuffers() == null) {
+            factory.setUseDirectBuffers(configuration.isDirectBuffers());
+        }
+
+        factory.addBuilderCustomizers((builder) -> {
+
+            if (configuration.isKeepAlive() == false) {
+                builder.setServerOption(UndertowOptions.ALWAYS_SET_KEEP_ALIVE, false);
+            }
+
+            if (configuration.getMaxEntitySize() >= 0) {
+                builder.setServerOption(UndertowOptions.MAX_ENTITY_SIZE, configuration.getMaxEntitySize());
+            }
+
+            builder.setSocketOption(Options.BACKLOG, configuration.getBacklog());
+
+            if (configuration.isHttp2() == true) {
+                builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true);
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, configuration.getHttp2MaxConcurrentStreams());
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, configuration.getHttp2InitialWindowSize());
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE, configuration.getHttp2HeaderTableSize());
+            }
+
+        });
+    }
+
+    /**
+     * Get order.  The order is after the order of the customizer of Spring Boot.
+     * @return The order
+     */
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
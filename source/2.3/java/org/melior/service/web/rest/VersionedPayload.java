@@ -0,0 +1,30 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+
+/**
+ * A response body which knows its own version.  When a {@code Controller} method
+ * that is annotated with {@code ETag} returns a response body which implements this
+ * interface, then the entity tag is derived from the version, and the response body
+ * does not have to be serialized to determine whether it has been modified.
+ * <p>
+ * The version must change whenever the representation of the resource changes.
+ * @author Melior
+ * @since 2.3
+ * @see ETag
+ */
+public interface VersionedPayload {
+
+    /**
+     * Get version.
+     * @return The version, or {@code null} if the version is unknown
+     */
+    public String getVersion();
+
+}
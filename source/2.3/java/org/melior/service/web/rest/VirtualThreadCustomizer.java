@@ -0,0 +1,122 @@
+/* __  __      _ _            
+  |  \/  |    | (_)           
+  | \  / | ___| |_  ___  _ __ 
+  | |\/| |/ _ \ | |/ _ \| '__|
+  | |  | |  __/ | | (_) | |   
+  |_|  |_|\___|_|_|\___/|_|   
+        Service Harness
+*/
+package org.melior.service.web.rest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.melior.logging.core.Logger;
+import org.melior.logging.core.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatches every HTTP REST request onto its own virtual thread instead of a thread from
+ * the worker pool of the embedded Undertow server, so that requests which block on downstream
+ * calls do not cap the throughput of the service at the number of worker threads.
+ * <p>
+ * Virtual threads require Java 21 or later.  The virtual thread API is resolved at runtime,
+ * so that the service harness continues to run on older JVMs, where the requests remain on
+ * the worker pool.
+ * <p>
+ * Each virtual thread serves a single request, and the {@code RestRequestInterceptor} runs
+ * on that thread.  The {@code TransactionContext} of the thread is therefore populated, passed
+ * to the {@code WorkManager} and reset per request, as on the worker pool.  The
+ * {@code VirtualThreadBenchmark} checks under load that the transaction context of every
+ * request survives a blocking downstream call unchanged.
+ * @author Melior
+ * @since 2.3
+ */
+@Component
+@ConditionalOnProperty(name = "server.request.virtual-threads", havingValue = "true")
+public class VirtualThreadCustomizer implements WebServerFactoryCustomizer<UndertowServletWebServerFactory>, DisposableBean {
+
+    protected Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private ExecutorService executor;
+
+    /**
+     * Constructor.
+     */
+    public VirtualThreadCustomizer() {
+
+        super();
+    }
+
+    /**
+     * Customize web server factory to dispatch requests onto virtual threads.
+     * @param factory The web server factory
+     */
+    public void customize(
+        final UndertowServletWebServerFactory factory) {
+
+        String methodName = "customize";
+
+        executor = createExecutor();
+
+        if (executor == null) {
+            logger.info(methodName, "Virtual threads are not supported by this JVM.  Requests are dispatched onto the worker pool.");
+
+            return;
+        }
+
+        logger.info(methodName, "Requests are dispatched onto virtual threads.");
+
+        factory.addDeploymentInfoCustomizers((deploymentInfo) -> {
+            deploymentInfo.setExecutor(executor);
+            deploymentInfo.setAsyncExecutor(executor);
+        });
+    }
+
+    /**
+     * Shut down executor.
+     */
+    public void destroy() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * Create executor which starts a new virtual thread for each task.
+     * @return The executor, or {@code null} if virtual threads are not supported
+     */
+    private ExecutorService createExecutor() {
+
+        String methodName = "createExecutor";
+        Class<?> builderClass;
+        Object builder;
+        ThreadFactory threadFactory;
+
+        try {
+
+            builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "rest-virtual-", 0L);
+            threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        }
+        catch (ClassNotFoundException | NoSuchMethodException exception) {
+
+            return null;
+        }
+        catch (Exception exception) {
+            logger.error(methodName, "Failed to create virtual thread executor: ", exception.getMessage(), exception);
+
+            return null;
+        }
+
+    }
+
+}